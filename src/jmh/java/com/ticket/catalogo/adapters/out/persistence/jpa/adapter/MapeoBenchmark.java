@@ -0,0 +1,131 @@
+package com.ticket.catalogo.adapters.out.persistence.jpa.adapter;
+
+import com.ticket.catalogo.adapters.out.persistence.jpa.entity.JpaEventoEntity;
+import com.ticket.catalogo.adapters.out.persistence.jpa.entity.JpaVenueEntity;
+import com.ticket.catalogo.adapters.out.persistence.jpa.mapper.JpaVenueMapper;
+import com.ticket.catalogo.application.DTO.EventoDto;
+import com.ticket.catalogo.domain.model.Evento;
+import com.ticket.catalogo.domain.model.Venue;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.time.LocalDateTime;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Costo por fila de los mapeos entre entidad, dominio y DTO.
+ * filaPorEntidad y filaPorProyeccion comparan los dos caminos de /api/eventos/search:
+ * lo que Hibernate arma por fila (entidad + venue) copiado a dominio y a DTO, contra el
+ * EventoDto que construye directamente la proyección (searchDto). Comparar gc.alloc.rate.norm.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class MapeoBenchmark {
+
+    private final JpaEventoRepositoryAdapter adapter = new JpaEventoRepositoryAdapter(null, null, null, null, null);
+
+    private JpaVenueEntity venueEntidad;
+    private JpaEventoEntity eventoEntidad;
+    private Venue venue;
+    private Evento evento;
+    private EventoDto eventoDto;
+
+    // Columnas de una fila, como las entrega el ResultSet
+    private Long id;
+    private String nombre;
+    private LocalDateTime inicio;
+    private LocalDateTime fin;
+    private String estado;
+    private String categoria;
+    private Long venueId;
+    private String venueNombre;
+
+    @Setup
+    public void preparar() {
+        id = 4242L;
+        nombre = "Concierto Rock Nacional";
+        inicio = LocalDateTime.of(2026, 3, 14, 20, 0);
+        fin = LocalDateTime.of(2026, 3, 14, 23, 0);
+        estado = "ACTIVO";
+        categoria = "MUSICA";
+        venueId = 17L;
+        venueNombre = "Auditorio Nacional";
+
+        venueEntidad = venueEntidad();
+        eventoEntidad = eventoEntidad(venueEntidad);
+        venue = new Venue(venueId, venueNombre, 5000, "Bogota", null);
+        evento = adapter.toDomain(eventoEntidad);
+        eventoDto = EventoDto.fromDomain(evento);
+    }
+
+    @Benchmark
+    public Venue venueEntidadADominio() {
+        return JpaVenueMapper.toDomain(venueEntidad);
+    }
+
+    @Benchmark
+    public JpaVenueEntity venueDominioAEntidad() {
+        return JpaVenueMapper.toEntity(venue);
+    }
+
+    @Benchmark
+    public Evento eventoEntidadADominio() {
+        return adapter.toDomain(eventoEntidad);
+    }
+
+    @Benchmark
+    public JpaEventoEntity eventoDominioAEntidad() {
+        return adapter.toEntity(evento);
+    }
+
+    @Benchmark
+    public EventoDto eventoDtoDesdeDominio() {
+        return EventoDto.fromDomain(evento);
+    }
+
+    @Benchmark
+    public Evento eventoDtoADominio() {
+        return eventoDto.toDomain();
+    }
+
+    // Las entidades y el dominio se pasan al Blackhole: en la consulta real el contexto de persistencia
+    // y la Page los retienen, así que el JIT no puede eliminarlos por escape analysis
+    @Benchmark
+    public EventoDto filaPorEntidad(Blackhole bh) {
+        JpaVenueEntity v = venueEntidad();
+        JpaEventoEntity e = eventoEntidad(v);
+        bh.consume(v);
+        bh.consume(e);
+        Evento d = adapter.toDomain(e);
+        bh.consume(d);
+        return EventoDto.fromDomain(d);
+    }
+
+    @Benchmark
+    public EventoDto filaPorProyeccion() {
+        return new EventoDto(id, nombre, inicio, fin, estado, categoria, venueId, venueNombre, 0L);
+    }
+
+    private JpaVenueEntity venueEntidad() {
+        return JpaVenueEntity.builder().id(venueId).nombre(venueNombre).capacidad(5000).ubicacion("Bogota")
+                .version(0L).build();
+    }
+
+    private JpaEventoEntity eventoEntidad(JpaVenueEntity venue) {
+        return JpaEventoEntity.builder().id(id).nombre(nombre).fechaInicio(inicio).fechaFin(fin).estado(estado)
+                .categoria(categoria).version(0L).venue(venue).build();
+    }
+}
@@ -0,0 +1,94 @@
+package com.ticket.catalogo.adapters.out.persistence.spec;
+
+import com.ticket.catalogo.adapters.out.persistence.jpa.entity.JpaEventoEntity;
+import com.ticket.catalogo.adapters.out.persistence.jpa.entity.JpaVenueEntity;
+import com.ticket.catalogo.application.port.out.EventoSearchCriteria;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import org.hibernate.SessionFactory;
+import org.hibernate.boot.MetadataSources;
+import org.hibernate.boot.registry.StandardServiceRegistry;
+import org.hibernate.boot.registry.StandardServiceRegistryBuilder;
+import org.hibernate.cfg.AvailableSettings;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.time.LocalDateTime;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Construcción del predicado de EventoSpecifications.fromCriteria sobre un CriteriaBuilder real.
+ * La SessionFactory se arma sin conexión (dialecto fijo, sin metadatos JDBC): solo se mide el
+ * armado de la consulta, no su ejecución.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class EventoSpecificationsBenchmark {
+
+    @Param({"vacio", "estado", "estadoYFechas", "completo"})
+    public String forma;
+
+    private StandardServiceRegistry registry;
+    private SessionFactory sessionFactory;
+    private CriteriaBuilder cb;
+    private EventoSearchCriteria criteria;
+
+    @Setup(Level.Trial)
+    public void preparar() {
+        registry = new StandardServiceRegistryBuilder()
+                .applySetting(AvailableSettings.DIALECT, "org.hibernate.dialect.MySQLDialect")
+                .applySetting(AvailableSettings.ALLOW_METADATA_ON_BOOT, "false")
+                .build();
+        sessionFactory = new MetadataSources(registry)
+                .addAnnotatedClass(JpaEventoEntity.class)
+                .addAnnotatedClass(JpaVenueEntity.class)
+                .buildMetadata()
+                .buildSessionFactory();
+        cb = sessionFactory.getCriteriaBuilder();
+
+        EventoSearchCriteria.Builder b = EventoSearchCriteria.builder();
+        switch (forma) {
+            case "estado" -> b.estado("ACTIVO");
+            case "estadoYFechas" -> b.estado("ACTIVO")
+                    .fechaInicioDesde(LocalDateTime.of(2026, 1, 1, 0, 0))
+                    .fechaFinHasta(LocalDateTime.of(2026, 12, 31, 23, 59));
+            case "completo" -> b.estado("ACTIVO")
+                    .fechaInicioDesde(LocalDateTime.of(2026, 1, 1, 0, 0))
+                    .fechaFinHasta(LocalDateTime.of(2026, 12, 31, 23, 59))
+                    .venueId(17L)
+                    .nombreLike("rock");
+            default -> { }
+        }
+        criteria = b.build();
+    }
+
+    @TearDown(Level.Trial)
+    public void cerrar() {
+        sessionFactory.close();
+        StandardServiceRegistryBuilder.destroy(registry);
+    }
+
+    @Benchmark
+    public Predicate fromCriteria() {
+        CriteriaQuery<JpaEventoEntity> query = cb.createQuery(JpaEventoEntity.class);
+        Root<JpaEventoEntity> root = query.from(JpaEventoEntity.class);
+        return EventoSpecifications.<JpaEventoEntity>fromCriteria(criteria).toPredicate(root, query, cb);
+    }
+}
@@ -0,0 +1,79 @@
+package com.ticket.catalogo.jmh;
+
+import tools.jackson.databind.JsonNode;
+import tools.jackson.databind.ObjectMapper;
+
+import java.io.File;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Compara un resultado JMH (-rf json, con -prof gc) contra la baseline guardada y marca como
+ * regresión cada benchmark cuyo tiempo o bytes asignados por operación empeoren más que el umbral.
+ * Uso: CompararConBaseline baseline.json resultados.json umbralPorcentaje
+ * Solo informa (sale con 0): el tiempo depende de la máquina; los bytes/op son el dato estable.
+ */
+public final class CompararConBaseline {
+
+    private static final String ALLOC_NORM = "gc.alloc.rate.norm";
+
+    private CompararConBaseline() {
+        // utilitario
+    }
+
+    public static void main(String[] args) {
+        File baseline = new File(args[0]);
+        File actual = new File(args[1]);
+        double umbral = args.length > 2 ? Double.parseDouble(args[2]) : 10;
+
+        if (!baseline.exists()) {
+            System.out.println("Sin baseline en " + baseline + "; copie " + actual + " para crearla.");
+            return;
+        }
+        ObjectMapper mapper = new ObjectMapper();
+        Map<String, double[]> antes = leer(mapper, baseline);
+        Map<String, double[]> ahora = leer(mapper, actual);
+
+        System.out.printf("%-75s %14s %14s %9s %12s %12s %9s%n",
+                "benchmark", "ns/op base", "ns/op", "Δ%", "B/op base", "B/op", "Δ%");
+        int regresiones = 0;
+        for (Map.Entry<String, double[]> e : ahora.entrySet()) {
+            double[] base = antes.get(e.getKey());
+            double[] act = e.getValue();
+            if (base == null) {
+                System.out.printf("%-75s %14s %14.1f %9s %12s %12.1f %9s%n", e.getKey(), "-", act[0], "nuevo", "-", act[1], "");
+                continue;
+            }
+            double deltaTiempo = delta(base[0], act[0]);
+            double deltaBytes = delta(base[1], act[1]);
+            boolean regresion = deltaTiempo > umbral || deltaBytes > umbral;
+            if (regresion) regresiones++;
+            System.out.printf("%-75s %14.1f %14.1f %8.1f%% %12.1f %12.1f %8.1f%%%s%n", e.getKey(),
+                    base[0], act[0], deltaTiempo, base[1], act[1], deltaBytes, regresion ? "  <-- REGRESIÓN" : "");
+        }
+        System.out.println(regresiones == 0
+                ? "Sin regresiones por encima de " + umbral + "%"
+                : regresiones + " benchmark(s) empeoraron más de " + umbral + "%");
+    }
+
+    /** benchmark (con sus @Param) -> {score, gc.alloc.rate.norm} */
+    private static Map<String, double[]> leer(ObjectMapper mapper, File archivo) {
+        Map<String, double[]> resultado = new LinkedHashMap<>();
+        for (JsonNode corrida : mapper.readTree(archivo)) {
+            StringBuilder nombre = new StringBuilder(corrida.get("benchmark").asString().replace("com.ticket.catalogo.", ""));
+            JsonNode params = corrida.get("params");
+            if (params != null) {
+                params.properties().forEach(p -> nombre.append(' ').append(p.getKey()).append('=').append(p.getValue().asString()));
+            }
+            double score = corrida.get("primaryMetric").get("score").asDouble();
+            JsonNode alloc = corrida.path("secondaryMetrics").path(ALLOC_NORM).path("score");
+            resultado.put(nombre.toString(), new double[]{score, alloc.isMissingNode() ? Double.NaN : alloc.asDouble()});
+        }
+        return resultado;
+    }
+
+    private static double delta(double base, double actual) {
+        if (Double.isNaN(base) || Double.isNaN(actual) || base == 0) return 0;
+        return (actual - base) * 100 / base;
+    }
+}
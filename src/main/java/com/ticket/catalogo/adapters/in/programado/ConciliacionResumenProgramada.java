@@ -0,0 +1,40 @@
+package com.ticket.catalogo.adapters.in.programado;
+
+import com.ticket.catalogo.application.service.ResumenEventosUseCase;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * Concilia el resumen de eventos con la tabla evento según catalogo.resumen.conciliacion.cron.
+ * Recorre evento completo, así que por defecto corre una vez al día en horario de poca carga.
+ * Con varias instancias es seguro (cada corrección es un delta sobre una instantánea) pero
+ * redundante: puede desactivarse con catalogo.resumen.conciliacion.enabled.
+ */
+@Component
+@ConditionalOnProperty(name = "catalogo.resumen.conciliacion.enabled", havingValue = "true")
+public class ConciliacionResumenProgramada {
+
+    private static final Logger log = LoggerFactory.getLogger(ConciliacionResumenProgramada.class);
+
+    private final ResumenEventosUseCase resumenUseCase;
+
+    public ConciliacionResumenProgramada(ResumenEventosUseCase resumenUseCase) {
+        this.resumenUseCase = resumenUseCase;
+    }
+
+    @Scheduled(cron = "${catalogo.resumen.conciliacion.cron:0 20 3 * * *}")
+    public void conciliar() {
+        try {
+            int corregidos = resumenUseCase.conciliar();
+            if (corregidos > 0) {
+                // Los deltas de la aplicación no dejan diferencias: alguien escribió evento por fuera
+                log.warn("Resumen de eventos conciliado: {} conteos corregidos", corregidos);
+            }
+        } catch (RuntimeException e) {
+            log.warn("Fallo al conciliar el resumen de eventos: {}", e.getMessage(), e);
+        }
+    }
+}
@@ -0,0 +1,44 @@
+package com.ticket.catalogo.adapters.in.programado;
+
+import com.ticket.catalogo.application.DTO.TransicionEstadoResultadoDto;
+import com.ticket.catalogo.application.service.EventoTransicionUseCase;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+
+/**
+ * Pasa a FINALIZADO los eventos ACTIVO ya terminados según catalogo.transiciones.finalizar.cron.
+ * Con varias instancias cada una lo ejecuta; es seguro (el UPDATE solo toca filas que siguen
+ * ACTIVO) pero redundante, así que puede desactivarse con catalogo.transiciones.finalizar.enabled.
+ */
+@Component
+@ConditionalOnProperty(name = "catalogo.transiciones.finalizar.enabled", havingValue = "true")
+public class FinalizacionEventosProgramada {
+
+    private static final Logger log = LoggerFactory.getLogger(FinalizacionEventosProgramada.class);
+
+    private final EventoTransicionUseCase transicionUseCase;
+
+    public FinalizacionEventosProgramada(EventoTransicionUseCase transicionUseCase) {
+        this.transicionUseCase = transicionUseCase;
+    }
+
+    @Scheduled(cron = "${catalogo.transiciones.finalizar.cron:0 5 * * * *}")
+    public void finalizar() {
+        try {
+            TransicionEstadoResultadoDto resultado = transicionUseCase.finalizarTerminados(LocalDateTime.now());
+            if (resultado.getActualizados() > 0) {
+                log.info("Eventos finalizados: {} en {} lotes ({} ms, lote más largo {} ms)",
+                        resultado.getActualizados(), resultado.getLotes(),
+                        resultado.getDuracionMs(), resultado.getLoteMaximoMs());
+            }
+        } catch (RuntimeException e) {
+            // Lo confirmado queda; la siguiente ejecución retoma el resto
+            log.warn("Fallo al finalizar eventos terminados: {}", e.getMessage(), e);
+        }
+    }
+}
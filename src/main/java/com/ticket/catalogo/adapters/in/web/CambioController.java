@@ -0,0 +1,27 @@
+package com.ticket.catalogo.adapters.in.web;
+
+import com.ticket.catalogo.application.DTO.CambiosDto;
+import com.ticket.catalogo.application.service.CambioUseCase;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequestMapping("/api/changes")
+public class CambioController {
+
+    private final CambioUseCase cambioUseCase;
+
+    public CambioController(CambioUseCase cambioUseCase) {
+        this.cambioUseCase = cambioUseCase;
+    }
+
+    // Cambios de eventos y venues posteriores a since (el "siguiente" de la respuesta anterior):
+    // ?since=<token>&limit=100; sin since, desde el principio del registro
+    @GetMapping
+    public CambiosDto listarCambios(@RequestParam(required = false) String since,
+                                    @RequestParam(defaultValue = "100") int limit) {
+        return cambioUseCase.listarDesde(since, limit);
+    }
+}
@@ -0,0 +1,26 @@
+package com.ticket.catalogo.adapters.in.web;
+
+import com.ticket.catalogo.shared.exceptions.ConflictoVersionException;
+import com.ticket.catalogo.shared.exceptions.SolapamientoException;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ProblemDetail;
+import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.bind.annotation.RestControllerAdvice;
+
+/**
+ * Conflictos con el estado actual del recurso, como 409.
+ * - Concurrencia optimista (ConflictoVersionException, OptimisticLockingFailureException):
+ *   el cliente debe releer el recurso (con su version actual) y reintentar.
+ * - Solapamiento (SolapamientoException): el venue ya está ocupado en ese tramo.
+ * El resto de errores conserva el manejo por defecto.
+ */
+@RestControllerAdvice
+class ConflictoHandler {
+
+    @ExceptionHandler({ConflictoVersionException.class, OptimisticLockingFailureException.class,
+            SolapamientoException.class})
+    ProblemDetail conflicto(RuntimeException e) {
+        return ProblemDetail.forStatusAndDetail(HttpStatus.CONFLICT, e.getMessage());
+    }
+}
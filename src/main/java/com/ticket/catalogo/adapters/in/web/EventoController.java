@@ -1,22 +1,77 @@
 package com.ticket.catalogo.adapters.in.web;
 
+import com.ticket.catalogo.application.DTO.BusquedaEventosDto;
+import com.ticket.catalogo.application.DTO.EstadisticasEventosDto;
 import com.ticket.catalogo.application.DTO.EventoDto;
+import com.ticket.catalogo.application.DTO.EventoScrollDto;
+import com.ticket.catalogo.application.DTO.ImportacionResultadoDto;
+import com.ticket.catalogo.application.DTO.TransicionEstadoDto;
+import com.ticket.catalogo.application.DTO.TransicionEstadoResultadoDto;
+import com.ticket.catalogo.application.port.out.EventoCursor;
+import com.ticket.catalogo.application.port.out.EventoSearchCriteria;
+import com.ticket.catalogo.application.port.out.MarcaVersion;
+import com.ticket.catalogo.application.service.EventoImportacionUseCase;
+import com.ticket.catalogo.application.service.EventoTransicionUseCase;
 import com.ticket.catalogo.application.service.EventoUseCase;
+import com.ticket.catalogo.application.service.ResumenEventosUseCase;
 import com.ticket.catalogo.domain.model.Evento;
+import com.ticket.catalogo.shared.exceptions.DomainException;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.util.StringUtils;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+import tools.jackson.core.JacksonException;
+import tools.jackson.databind.ObjectMapper;
 
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.util.Iterator;
 import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 @RestController
 @RequestMapping("/api/eventos")
 public class EventoController {
 
+    private static final Set<String> CAMPOS_ORDENABLES = Set.of("id", "nombre", "fechaInicio", "fechaFin", "estado", "categoria");
+    private static final Sort ORDEN_POR_DEFECTO = Sort.by("fechaInicio");
+
+    private static final String NDJSON = "application/x-ndjson";
+
     private final EventoUseCase eventoUseCase;
+    private final EventoImportacionUseCase importacionUseCase;
+    private final EventoTransicionUseCase transicionUseCase;
+    private final ResumenEventosUseCase resumenUseCase;
+    private final ObjectMapper objectMapper;
 
-    public EventoController(EventoUseCase eventoUseCase) {
+    public EventoController(EventoUseCase eventoUseCase,
+                            EventoImportacionUseCase importacionUseCase,
+                            EventoTransicionUseCase transicionUseCase,
+                            ResumenEventosUseCase resumenUseCase,
+                            ObjectMapper objectMapper) {
         this.eventoUseCase = eventoUseCase;
+        this.importacionUseCase = importacionUseCase;
+        this.transicionUseCase = transicionUseCase;
+        this.resumenUseCase = resumenUseCase;
+        this.objectMapper = objectMapper;
     }
 
     // Crear evento
@@ -35,21 +90,133 @@ public class EventoController {
         return EventoDto.fromDomain(updated);
     }
 
-    // Obtener evento por ID
+    // Obtener evento por ID; con If-None-Match/If-Modified-Since responde 304 si no cambió (ver GetCondicional)
     @GetMapping("/{id}")
-    public EventoDto obtenerPorId(@PathVariable Long id) {
-        return EventoDto.fromDomain(eventoUseCase.obtenerPorId(id));
+    public ResponseEntity<EventoDto> obtenerPorId(@PathVariable Long id, WebRequest request) {
+        if (GetCondicional.noModificado(request, () -> eventoUseCase.obtenerMarca(id))) {
+            return null;
+        }
+        Evento evento = eventoUseCase.obtenerPorId(id);
+        return GetCondicional.ok(MarcaVersion.de(evento), EventoDto.fromDomain(evento));
+    }
+
+    // Obtener varios eventos por id: GET /api/eventos?ids=3,1,2 (mismo orden; los inexistentes se omiten)
+    @GetMapping(params = "ids")
+    public List<EventoDto> obtenerPorIds(@RequestParam List<Long> ids) {
+        return eventoUseCase.obtenerPorIds(ids).stream().map(EventoDto::fromDomain).collect(Collectors.toList());
     }
 
-    // Buscar eventos con filtros opcionales
+    // Buscar eventos con filtros opcionales (paginado; ?page=0&size=20&sort=fechaInicio,asc)
+    // Con "nombre" y sin sort explícito los resultados se ordenan por relevancia.
+    // Con facetas=true agrega los conteos por estado, categoría y venue de toda la búsqueda.
     @GetMapping("/search")
-    public List<EventoDto> buscarEventos(
+    public BusquedaEventosDto buscarEventos(
+            @RequestParam(required = false) String estado,
+            @RequestParam(required = false) LocalDateTime inicio,
+            @RequestParam(required = false) LocalDateTime fin,
+            @RequestParam(required = false) Long venueId,
+            @RequestParam(required = false) String categoria,
+            @RequestParam(required = false) String nombre,
+            @RequestParam(defaultValue = "false") boolean facetas,
+            Pageable pageable) {
+        EventoSearchCriteria criteria = EventoSearchCriteria.builder()
+                .estado(estado)
+                .fechaInicioDesde(inicio)
+                .fechaFinHasta(fin)
+                .venueId(venueId)
+                .categoria(categoria)
+                .nombreLike(nombre)
+                .build();
+        Sort porDefecto = StringUtils.hasText(nombre) ? Sort.unsorted() : ORDEN_POR_DEFECTO;
+        Page<EventoDto> pagina = eventoUseCase.buscarEventos(criteria,
+                Paginacion.validar(pageable, CAMPOS_ORDENABLES, porDefecto));
+        return new BusquedaEventosDto(pagina, facetas ? eventoUseCase.contarFacetas(criteria) : null);
+    }
+
+    // Buscar eventos por cursor (keyset): ?cursor=<nextCursor de la página anterior>&size=20
+    @GetMapping("/search/scroll")
+    public EventoScrollDto buscarEventosPorCursor(
             @RequestParam(required = false) String estado,
             @RequestParam(required = false) LocalDateTime inicio,
             @RequestParam(required = false) LocalDateTime fin,
-            @RequestParam(required = false) Long venueId) {
-        List<Evento> resultados = eventoUseCase.buscarEventos(estado, inicio, fin, venueId);
-        return resultados.stream().map(EventoDto::fromDomain).collect(Collectors.toList());
+            @RequestParam(required = false) Long venueId,
+            @RequestParam(required = false) String categoria,
+            @RequestParam(required = false) String nombre,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size) {
+        EventoSearchCriteria criteria = EventoSearchCriteria.builder()
+                .estado(estado)
+                .fechaInicioDesde(inicio)
+                .fechaFinHasta(fin)
+                .venueId(venueId)
+                .categoria(categoria)
+                .nombreLike(nombre)
+                .build();
+        EventoCursor desde = StringUtils.hasText(cursor) ? EventoCursor.decode(cursor) : null;
+
+        Slice<Evento> slice = eventoUseCase.buscarEventosDesde(criteria, desde, Paginacion.limitar(size));
+
+        List<EventoDto> content = slice.getContent().stream().map(EventoDto::fromDomain).collect(Collectors.toList());
+        String nextCursor = null;
+        if (slice.hasNext() && !slice.getContent().isEmpty()) {
+            Evento ultimo = slice.getContent().get(slice.getContent().size() - 1);
+            nextCursor = new EventoCursor(ultimo.getFechaInicio(), ultimo.getId()).encode();
+        }
+        return new EventoScrollDto(content, nextCursor, slice.hasNext());
+    }
+
+    // Importación masiva: arreglo JSON de EventoDto (?batchSize=1000 opcional)
+    @PostMapping(value = "/importar", consumes = MediaType.APPLICATION_JSON_VALUE)
+    public ImportacionResultadoDto importarEventos(@RequestBody List<EventoDto> eventos,
+                                                   @RequestParam(required = false) Integer batchSize) {
+        Iterator<Evento> filas = eventos.stream().map(EventoDto::toDomain).iterator();
+        return importacionUseCase.importar(filas, batchSize);
+    }
+
+    // Importación masiva en NDJSON (un EventoDto por línea): se lee por líneas, sin cargar el cuerpo completo
+    @PostMapping(value = "/importar", consumes = NDJSON)
+    public ImportacionResultadoDto importarEventosNdjson(InputStream body,
+                                                         @RequestParam(required = false) Integer batchSize) {
+        BufferedReader reader = new BufferedReader(new InputStreamReader(body, StandardCharsets.UTF_8));
+        return importacionUseCase.importar(new LineasNdjson(reader), batchSize);
+    }
+
+    // Transición masiva de estado: filtros de /search + estadoDestino, en lotes (ver EventoTransicionUseCase)
+    @PostMapping("/transiciones")
+    public TransicionEstadoResultadoDto transicionarEstado(@RequestBody TransicionEstadoDto transicion) {
+        return transicionUseCase.transicionar(transicion.toCriteria(), transicion.getEstadoDestino());
+    }
+
+    // Conteos por estado, venue y día de inicio en [desde, hasta), leídos del resumen (sin GROUP BY sobre evento)
+    @GetMapping("/stats")
+    public EstadisticasEventosDto estadisticas(@RequestParam(required = false) LocalDate desde,
+                                               @RequestParam(required = false) LocalDate hasta) {
+        return resumenUseCase.estadisticas(desde, hasta);
+    }
+
+    // Exportación del catálogo completo (?format=ndjson|csv): las filas se escriben a medida que
+    // se leen de la BD, sin armar la lista en memoria
+    @GetMapping("/export")
+    public ResponseEntity<StreamingResponseBody> exportarEventos(@RequestParam(defaultValue = "ndjson") String format) {
+        FormatoExportacion formato = FormatoExportacion.desde(format);
+        StreamingResponseBody cuerpo = out -> {
+            Writer writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8));
+            if (formato.cabecera() != null) {
+                writer.write(formato.cabecera());
+            }
+            eventoUseCase.exportarEventos(evento -> {
+                try {
+                    writer.write(formato.linea(EventoDto.fromDomain(evento), objectMapper));
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
+            writer.flush();
+        };
+        return ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType(formato.contentType()))
+                .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"eventos." + formato.extension() + "\"")
+                .body(cuerpo);
     }
 
     // Eliminar evento
@@ -57,4 +224,46 @@ public class EventoController {
     public void eliminarEvento(@PathVariable Long id) {
         eventoUseCase.eliminarEvento(id);
     }
+
+    /**
+     * Itera las líneas no vacías de un cuerpo NDJSON. Una línea que no se puede leer como
+     * EventoDto se informa con DomainException para que la importación la marque como fallida.
+     */
+    private final class LineasNdjson implements Iterator<Evento> {
+
+        private final BufferedReader reader;
+        private String siguiente;
+
+        LineasNdjson(BufferedReader reader) {
+            this.reader = reader;
+            avanzar();
+        }
+
+        @Override
+        public boolean hasNext() {
+            return siguiente != null;
+        }
+
+        @Override
+        public Evento next() {
+            if (siguiente == null) throw new NoSuchElementException();
+            String linea = siguiente;
+            avanzar();
+            try {
+                return objectMapper.readValue(linea, EventoDto.class).toDomain();
+            } catch (JacksonException e) {
+                throw new DomainException("JSON inválido: " + e.getOriginalMessage());
+            }
+        }
+
+        private void avanzar() {
+            try {
+                do {
+                    siguiente = reader.readLine();
+                } while (siguiente != null && siguiente.isBlank());
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+    }
 }
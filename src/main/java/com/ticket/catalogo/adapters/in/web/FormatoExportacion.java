@@ -0,0 +1,86 @@
+package com.ticket.catalogo.adapters.in.web;
+
+import com.ticket.catalogo.application.DTO.EventoDto;
+import com.ticket.catalogo.shared.exceptions.DomainException;
+import tools.jackson.databind.ObjectMapper;
+
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.Locale;
+import java.util.Objects;
+
+/**
+ * Formatos de GET /api/eventos/export. Cada evento se convierte en una línea completa
+ * (terminada en \n) que se escribe directamente en la respuesta.
+ */
+enum FormatoExportacion {
+
+    NDJSON("application/x-ndjson", "ndjson") {
+        @Override
+        String cabecera() {
+            return null;
+        }
+
+        @Override
+        String linea(EventoDto e, ObjectMapper mapper) {
+            return mapper.writeValueAsString(e) + "\n";
+        }
+    },
+
+    CSV("text/csv", "csv") {
+        @Override
+        String cabecera() {
+            return "id,nombre,fechaInicio,fechaFin,estado,venueId,venueNombre,categoria\n";
+        }
+
+        @Override
+        String linea(EventoDto e, ObjectMapper mapper) {
+            return e.getId() + "," + campo(e.getNombre()) + "," + fecha(e.getFechaInicio()) + ","
+                    + fecha(e.getFechaFin()) + "," + campo(e.getEstado()) + "," + campo(e.getVenueId()) + ","
+                    + campo(e.getVenueNombre()) + "," + campo(e.getCategoria()) + "\n";
+        }
+    };
+
+    private final String contentType;
+    private final String extension;
+
+    FormatoExportacion(String contentType, String extension) {
+        this.contentType = contentType;
+        this.extension = extension;
+    }
+
+    String contentType() {
+        return contentType;
+    }
+
+    String extension() {
+        return extension;
+    }
+
+    /** Primera línea del archivo, o null si el formato no lleva cabecera. */
+    abstract String cabecera();
+
+    abstract String linea(EventoDto e, ObjectMapper mapper);
+
+    static FormatoExportacion desde(String valor) {
+        try {
+            return valueOf(valor.trim().toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            throw new DomainException("Formato de exportación no soportado: " + valor + ". Use ndjson o csv");
+        }
+    }
+
+    // Mismo formato que en JSON (con segundos)
+    private static String fecha(LocalDateTime valor) {
+        return valor == null ? "" : DateTimeFormatter.ISO_LOCAL_DATE_TIME.format(valor);
+    }
+
+    // RFC 4180: se entrecomilla si hay comas, comillas o saltos de línea; las comillas se duplican
+    private static String campo(Object valor) {
+        String s = Objects.toString(valor, "");
+        if (s.indexOf(',') < 0 && s.indexOf('"') < 0 && s.indexOf('\n') < 0 && s.indexOf('\r') < 0) {
+            return s;
+        }
+        return '"' + s.replace("\"", "\"\"") + '"';
+    }
+}
@@ -0,0 +1,42 @@
+package com.ticket.catalogo.adapters.in.web;
+
+import com.ticket.catalogo.application.port.out.MarcaVersion;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.context.request.WebRequest;
+
+import java.util.function.Supplier;
+
+/**
+ * GET condicional por ETag (fuerte, derivado de version) y Last-Modified.
+ * - Si la petición trae If-None-Match o If-Modified-Since, primero se consulta solo la marca
+ *   del recurso; si no cambió se responde 304 sin cargar ni mapear la entidad.
+ * - Si no, se carga el recurso y los validadores salen de lo cargado (sin consulta extra).
+ */
+final class GetCondicional {
+
+    private GetCondicional() {
+        // utilitario
+    }
+
+    /**
+     * true si ya se respondió 304: el controlador debe devolver null.
+     */
+    static boolean noModificado(WebRequest request, Supplier<MarcaVersion> marcaActual) {
+        if (request.getHeader(HttpHeaders.IF_NONE_MATCH) == null
+                && request.getHeader(HttpHeaders.IF_MODIFIED_SINCE) == null) {
+            return false;
+        }
+        MarcaVersion marca = marcaActual.get();
+        long ultimaModificacion = marca.getActualizadoEn() == null ? -1 : marca.getActualizadoEn().toEpochMilli();
+        return request.checkNotModified(marca.getEtag(), ultimaModificacion);
+    }
+
+    static <T> ResponseEntity<T> ok(MarcaVersion marca, T cuerpo) {
+        ResponseEntity.BodyBuilder respuesta = ResponseEntity.ok().eTag(marca.getEtag());
+        if (marca.getActualizadoEn() != null) {
+            respuesta.lastModified(marca.getActualizadoEn());
+        }
+        return respuesta.body(cuerpo);
+    }
+}
@@ -0,0 +1,62 @@
+package com.ticket.catalogo.adapters.in.web;
+
+import com.ticket.catalogo.shared.exceptions.DomainException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+
+import java.util.Set;
+
+/**
+ * Utilidades de paginación para los controladores.
+ * - El tamaño máximo de página lo impone Spring (spring.data.web.pageable.max-page-size).
+ * - Los endpoints por cursor no reciben Pageable y se limitan con limitar().
+ * - Aquí se valida el ordenamiento contra una lista blanca y se añade "id" como desempate,
+ *   para que la paginación sea determinista.
+ */
+final class Paginacion {
+
+    // Debe coincidir con spring.data.web.pageable.max-page-size (aplica a endpoints sin Pageable)
+    static final int TAMANO_MAXIMO = 100;
+
+    private Paginacion() {
+        // utilitario
+    }
+
+    static Pageable validar(Pageable pageable, Set<String> camposOrdenables) {
+        return validar(pageable, camposOrdenables, Sort.unsorted());
+    }
+
+    /**
+     * Igual que validar(pageable, campos), aplicando porDefecto si la petición no trae sort.
+     * Con porDefecto vacío y sin sort se devuelve una página sin orden, para que la consulta
+     * aplique el suyo (p. ej. relevancia en búsquedas de texto).
+     */
+    static Pageable validar(Pageable pageable, Set<String> camposOrdenables, Sort porDefecto) {
+        if (pageable.getSort().isUnsorted()) {
+            if (porDefecto.isUnsorted()) {
+                return PageRequest.of(pageable.getPageNumber(), pageable.getPageSize());
+            }
+            pageable = PageRequest.of(pageable.getPageNumber(), pageable.getPageSize(), porDefecto);
+        }
+        for (Sort.Order order : pageable.getSort()) {
+            if (!camposOrdenables.contains(order.getProperty())) {
+                throw new DomainException("No se puede ordenar por: " + order.getProperty()
+                        + ". Campos permitidos: " + camposOrdenables);
+            }
+        }
+
+        Sort sort = pageable.getSort();
+        if (sort.getOrderFor("id") == null) {
+            sort = sort.and(Sort.by(Sort.Direction.ASC, "id"));
+        }
+        return PageRequest.of(pageable.getPageNumber(), pageable.getPageSize(), sort);
+    }
+
+    static int limitar(int size) {
+        if (size <= 0) {
+            throw new DomainException("El tamaño de página debe ser mayor que cero");
+        }
+        return Math.min(size, TAMANO_MAXIMO);
+    }
+}
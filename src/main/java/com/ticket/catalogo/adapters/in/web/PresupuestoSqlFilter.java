@@ -0,0 +1,63 @@
+package com.ticket.catalogo.adapters.in.web;
+
+import com.ticket.catalogo.adapters.out.persistence.sql.ContadorSentencias;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+
+/**
+ * Presupuesto de sentencias SQL por petición HTTP, para detectar N+1.
+ * - Cuenta las sentencias JDBC que se ejecutan en el hilo de la petición, de Hibernate y de
+ *   JdbcTemplate (ContadorSentencias).
+ * - Si se supera catalogo.sql.presupuesto.max-por-peticion, registra un WARN con las
+ *   sentencias (modo LOG) o lanza IllegalStateException (modo FALLAR, pensado para tests/CI:
+ *   con MockMvc la petición falla; en un servidor la respuesta puede estar ya enviada).
+ * - El total queda en el atributo de petición ATRIBUTO_SENTENCIAS.
+ * - Las respuestas asíncronas (exportación) escriben en otro hilo y no se cuentan.
+ */
+@Component
+@ConditionalOnProperty(name = "catalogo.sql.presupuesto.enabled", havingValue = "true", matchIfMissing = true)
+public class PresupuestoSqlFilter extends OncePerRequestFilter {
+
+    public static final String ATRIBUTO_SENTENCIAS = "catalogo.sql.sentencias";
+
+    public enum Modo { LOG, FALLAR }
+
+    private static final Logger log = LoggerFactory.getLogger(PresupuestoSqlFilter.class);
+
+    private final int maxPorPeticion;
+    private final Modo modo;
+
+    public PresupuestoSqlFilter(@Value("${catalogo.sql.presupuesto.max-por-peticion:10}") int maxPorPeticion,
+                                @Value("${catalogo.sql.presupuesto.modo:LOG}") Modo modo) {
+        this.maxPorPeticion = maxPorPeticion;
+        this.modo = modo;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        try (ContadorSentencias.Medicion medicion = ContadorSentencias.iniciar()) {
+            chain.doFilter(request, response);
+
+            request.setAttribute(ATRIBUTO_SENTENCIAS, medicion.total());
+            if (medicion.total() > maxPorPeticion) {
+                String mensaje = request.getMethod() + " " + request.getRequestURI() + " ejecutó "
+                        + medicion.total() + " sentencias SQL (presupuesto: " + maxPorPeticion + ")";
+                if (modo == Modo.FALLAR) {
+                    throw new IllegalStateException(mensaje);
+                }
+                log.warn("{}; primeras sentencias:\n{}", mensaje, String.join("\n", medicion.sentencias()));
+            }
+        }
+    }
+}
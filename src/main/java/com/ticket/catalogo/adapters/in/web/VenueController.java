@@ -1,16 +1,32 @@
 package com.ticket.catalogo.adapters.in.web;
 
+import com.ticket.catalogo.application.DTO.DisponibilidadDto;
+import com.ticket.catalogo.application.DTO.IntervaloAgendaDto;
 import com.ticket.catalogo.application.DTO.VenueDto;
+import com.ticket.catalogo.application.port.out.MarcaVersion;
 import com.ticket.catalogo.application.service.VenueUseCase;
 import com.ticket.catalogo.domain.model.Venue;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
+import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
 
 @RestController
 @RequestMapping("/api/venues")
 public class VenueController {
 
+    private static final Set<String> CAMPOS_ORDENABLES = Set.of("id", "nombre", "capacidad", "ubicacion");
+    private static final Sort ORDEN_POR_DEFECTO = Sort.by("nombre");
+
     private final VenueUseCase venueUseCase;
 
     public VenueController(VenueUseCase venueUseCase) {
@@ -33,16 +49,58 @@ public class VenueController {
         return VenueDto.fromDomain(updated);
     }
 
-    // Obtener por id
+    // Obtener por id; con If-None-Match/If-Modified-Since responde 304 si no cambió (ver GetCondicional)
     @GetMapping("/{id}")
-    public VenueDto obtenerPorId(@PathVariable Long id) {
-        return VenueDto.fromDomain(venueUseCase.obtenerPorId(id));
+    public ResponseEntity<VenueDto> obtenerPorId(@PathVariable Long id, WebRequest request) {
+        if (GetCondicional.noModificado(request, () -> venueUseCase.obtenerMarca(id))) {
+            return null;
+        }
+        Venue venue = venueUseCase.obtenerPorId(id);
+        return GetCondicional.ok(MarcaVersion.de(venue), VenueDto.fromDomain(venue));
+    }
+
+    // Obtener varios venues por id: GET /api/venues?ids=3,1,2 (mismo orden; los inexistentes se omiten)
+    @GetMapping(params = "ids")
+    public List<VenueDto> obtenerPorIds(@RequestParam List<Long> ids) {
+        return VenueDto.fromDomainList(venueUseCase.obtenerPorIds(ids));
     }
 
-    // Listar todos
+    // Listar venues (paginado; ?nombre=audi&ubicacion=bog&page=0&size=20&sort=capacidad,desc)
+    // nombre y ubicacion filtran por prefijo; por defecto se ordena por nombre
     @GetMapping
-    public List<VenueDto> listarTodos() {
-        return VenueDto.fromDomainList(venueUseCase.listarTodos());
+    public Page<VenueDto> listarTodos(@RequestParam(required = false) String nombre,
+                                      @RequestParam(required = false) String ubicacion,
+                                      Pageable pageable) {
+        return venueUseCase.listarTodos(nombre, ubicacion,
+                        Paginacion.validar(pageable, CAMPOS_ORDENABLES, ORDEN_POR_DEFECTO))
+                .map(VenueDto::fromDomain);
+    }
+
+    // Buscar por nombre (texto libre, ordenado por relevancia): ?nombre=audit&page=0&size=20
+    @GetMapping("/search")
+    public Page<VenueDto> buscarPorNombre(@RequestParam String nombre,
+                                          @RequestParam(defaultValue = "0") int page,
+                                          @RequestParam(defaultValue = "20") int size) {
+        Pageable pageable = PageRequest.of(page, Paginacion.limitar(size));
+        return venueUseCase.buscarPorNombre(nombre, pageable).map(VenueDto::fromDomain);
+    }
+
+    // Ocupación del venue en una ventana: ?desde=2025-12-01T00:00:00&hasta=2026-01-01T00:00:00 (máximo 366 días)
+    @GetMapping("/{id}/agenda")
+    public List<IntervaloAgendaDto> agenda(@PathVariable Long id,
+                                           @RequestParam LocalDateTime desde,
+                                           @RequestParam LocalDateTime hasta) {
+        return venueUseCase.agenda(id, desde, hasta).stream()
+                .map(IntervaloAgendaDto::fromPort)
+                .collect(Collectors.toList());
+    }
+
+    // Días libres del venue: ?desde=2025-12-01&hasta=2026-12-01 (por defecto, los próximos 12 meses; máximo 366 días)
+    @GetMapping("/{id}/disponibilidad")
+    public DisponibilidadDto disponibilidad(@PathVariable Long id,
+                                            @RequestParam(required = false) LocalDate desde,
+                                            @RequestParam(required = false) LocalDate hasta) {
+        return venueUseCase.disponibilidad(id, desde, hasta);
     }
 
     // Eliminar
@@ -0,0 +1,51 @@
+package com.ticket.catalogo.adapters.out.persistence.cache;
+
+/**
+ * Lo que AgendaVenueCache guarda por venue: los intervalos de sus eventos y el calendario de
+ * días ocupados derivado de ellos. Inmutable; con / sin actualizan los dos a la vez.
+ */
+final class AgendaVenue {
+
+    private final IndiceIntervalos indice;
+    private final CalendarioOcupacion calendario;
+
+    private AgendaVenue(IndiceIntervalos indice, CalendarioOcupacion calendario) {
+        this.indice = indice;
+        this.calendario = calendario;
+    }
+
+    static AgendaVenue de(IndiceIntervalos indice) {
+        return new AgendaVenue(indice, CalendarioOcupacion.de(indice));
+    }
+
+    IndiceIntervalos indice() {
+        return indice;
+    }
+
+    CalendarioOcupacion calendario() {
+        return calendario;
+    }
+
+    AgendaVenue con(long id, long inicio, long fin) {
+        IndiceIntervalos nuevo = indice.con(id, inicio, fin);
+        CalendarioOcupacion cal = liberarAnterior(nuevo, id);
+        return new AgendaVenue(nuevo, cal.recalcular(nuevo, inicio, fin));
+    }
+
+    AgendaVenue sin(long id) {
+        IndiceIntervalos nuevo = indice.sin(id);
+        if (nuevo == indice) {
+            return this;
+        }
+        return new AgendaVenue(nuevo, liberarAnterior(nuevo, id));
+    }
+
+    // Días del intervalo que tenía id antes de la escritura, recalculados con el índice nuevo
+    private CalendarioOcupacion liberarAnterior(IndiceIntervalos nuevo, long id) {
+        int previo = indice.posicionDe(id);
+        if (previo < 0) {
+            return calendario;
+        }
+        return calendario.recalcular(nuevo, indice.inicio(previo), indice.fin(previo));
+    }
+}
@@ -0,0 +1,241 @@
+package com.ticket.catalogo.adapters.out.persistence.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.RemovalCause;
+import com.ticket.catalogo.adapters.out.persistence.jpa.projection.EventoIntervalo;
+import com.ticket.catalogo.adapters.out.persistence.jpa.repository.SpringDataEventoRepository;
+import com.ticket.catalogo.application.port.out.AgendaVenuePort;
+import com.ticket.catalogo.application.port.out.IntervaloEvento;
+import com.ticket.catalogo.domain.model.Evento;
+import io.micrometer.core.annotation.Timed;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.stream.Collectors;
+
+/**
+ * Agenda de cada venue en memoria: un IndiceIntervalos por venue y su calendario de días
+ * ocupados (AgendaVenue), cargados en el primer uso con una consulta de id y fechas de sus eventos
+ * no cancelados.
+ * - La consulta nunca pide una segunda conexión: sin transacción en curso abre una propia de
+ *   escritura (primario); dentro de una de escritura usa su conexión, y su foto de REPEATABLE READ
+ *   es la de la primera lectura de esa transacción. Lo leído en una transacción de solo lectura
+ *   (réplica, quizá atrasada) se devuelve pero no se guarda: aceptaría solapamientos hasta el TTL.
+ * - La consulta corre fuera del compute de Caffeine (getIfPresent y putIfAbsent) y, en las
+ *   reservas, antes de tomar el bloqueo del venue (cargar). Un registro, quitar o invalidar del
+ *   venue durante la consulta cambia la generación de su franja y lo leído no se guarda.
+ * - Las escrituras reemplazan el índice del venue por una copia actualizada (compute de Caffeine);
+ *   se aplican al momento y otra vez tras el commit. Si la transacción se revierte, el venue se descarta.
+ * - venuePorEvento recuerda en qué venue está cada evento de los venues cargados: un cambio de
+ *   venue o un borrado por id sabe de qué índice quitarlo.
+ * - Tamaño acotado y TTL como red de seguridad: las escrituras de otras instancias, los borrados
+ *   en cascada y los cambios directos en la base se ven como mucho tras catalogo.cache.agenda.ttl.
+ */
+@Component
+@Timed("catalogo.repositorio")
+public class AgendaVenueCache implements AgendaVenuePort {
+
+    private static final int FRANJAS_VENUE = 1024;
+
+    private final SpringDataEventoRepository repo;
+    private final TransactionTemplate enPrimario;
+    private final Cache<Long, AgendaVenue> cache;
+    private final ConcurrentMap<Long, Long> venuePorEvento = new ConcurrentHashMap<>();
+    private final AtomicLongArray generaciones = new AtomicLongArray(FRANJAS_VENUE);
+
+    public AgendaVenueCache(SpringDataEventoRepository repo,
+                            PlatformTransactionManager transactionManager,
+                            @Value("${catalogo.cache.agenda.max-size:10000}") long maxSize,
+                            @Value("${catalogo.cache.agenda.ttl:10m}") Duration ttl) {
+        this.repo = repo;
+        // Solo se usa sin transacción en curso: abre una de escritura, que va al primario
+        this.enPrimario = new TransactionTemplate(transactionManager);
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(ttl)
+                // En el mismo hilo: venuePorEvento se limpia antes de que el venue pueda volver a cargarse
+                .executor(Runnable::run)
+                .removalListener((Long venueId, AgendaVenue agenda, RemovalCause causa) -> {
+                    if (causa != RemovalCause.REPLACED && venueId != null && agenda != null) {
+                        for (long id : agenda.indice().ids()) {
+                            venuePorEvento.remove(id, venueId);
+                        }
+                    }
+                })
+                .recordStats()
+                .build();
+    }
+
+    @Override
+    public void cargar(Collection<Long> venueIds) {
+        venueIds.forEach(this::agenda);
+    }
+
+    @Override
+    public Optional<IntervaloEvento> buscarSolapado(Long venueId, LocalDateTime inicio, LocalDateTime fin,
+                                                    Long excluirEventoId) {
+        IndiceIntervalos indice = agenda(venueId).indice();
+        int pos = indice.primerSolapado(segundos(inicio), segundos(fin),
+                excluirEventoId == null ? Long.MIN_VALUE : excluirEventoId);
+        return pos < 0 ? Optional.empty() : Optional.of(intervalo(indice, pos));
+    }
+
+    @Override
+    public List<IntervaloEvento> enVentana(Long venueId, LocalDateTime desde, LocalDateTime hasta) {
+        IndiceIntervalos indice = agenda(venueId).indice();
+        return indice.solapados(segundos(desde), segundos(hasta)).stream()
+                .map(pos -> intervalo(indice, pos))
+                .collect(Collectors.toList());
+    }
+
+    @Override
+    public BitSet diasOcupados(Long venueId, LocalDate desde, LocalDate hasta) {
+        return agenda(venueId).calendario().ocupados(desde.toEpochDay(), hasta.toEpochDay());
+    }
+
+    @Override
+    public void registrar(Evento evento) {
+        Long id = evento.getId();
+        if (!AgendaVenuePort.ocupaVenue(evento)) {
+            quitar(id);
+            return;
+        }
+        Long venueId = evento.getVenue().getId();
+        long inicio = segundos(evento.getFechaInicio());
+        long fin = segundos(evento.getFechaFin());
+        Long anterior = venuePorEvento.get(id);
+        // Cargado antes de escribir: tras el commit, si el venue ya no está, la próxima carga lo incluye
+        agenda(venueId);
+        DespuesDelCommit.ahoraYAlTerminar(() -> {
+            Long previo = venuePorEvento.put(id, venueId);
+            if (previo != null && !previo.equals(venueId)) {
+                cambiar(previo);
+                cache.asMap().computeIfPresent(previo, (k, agenda) -> agenda.sin(id));
+            }
+            cambiar(venueId);
+            cache.asMap().computeIfPresent(venueId, (k, agenda) -> agenda.con(id, inicio, fin));
+        }, () -> {
+            invalidarVenue(venueId);
+            if (anterior != null) {
+                invalidarVenue(anterior);
+            }
+        });
+    }
+
+    @Override
+    public void quitar(Long eventoId) {
+        Long venueId = venuePorEvento.get(eventoId);
+        if (venueId == null) {
+            return; // su venue no está cargado
+        }
+        DespuesDelCommit.ahoraYAlTerminar(() -> {
+            venuePorEvento.remove(eventoId, venueId);
+            cambiar(venueId);
+            cache.asMap().computeIfPresent(venueId, (k, agenda) -> agenda.sin(eventoId));
+        }, () -> invalidarVenue(venueId));
+    }
+
+    @Override
+    public void invalidarVenue(Long venueId) {
+        if (venueId != null) {
+            DespuesDelCommit.ahoraYAlTerminar(() -> {
+                cambiar(venueId);
+                cache.invalidate(venueId);
+            });
+        }
+    }
+
+    public Cache<Long, AgendaVenue> getCache() {
+        return cache;
+    }
+
+    private AgendaVenue agenda(Long venueId) {
+        AgendaVenue agenda = cache.getIfPresent(venueId);
+        return agenda != null ? agenda : leer(venueId);
+    }
+
+    private AgendaVenue leer(Long venueId) {
+        int franja = Math.floorMod(Long.hashCode(venueId), FRANJAS_VENUE);
+        long generacion = generaciones.get(franja);
+        if (!TransactionSynchronizationManager.isActualTransactionActive()) {
+            return guardar(venueId, enPrimario.execute(status -> repo.findIntervalosByVenueId(venueId)), franja, generacion);
+        }
+        List<EventoIntervalo> filas = repo.findIntervalosByVenueId(venueId);
+        if (TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            return AgendaVenue.de(indice(filas, null));
+        }
+        return guardar(venueId, filas, franja, generacion);
+    }
+
+    /**
+     * Guarda lo leído si la franja del venue no cambió durante la consulta; si otro hilo lo guardó
+     * antes, devuelve el suyo.
+     */
+    private AgendaVenue guardar(Long venueId, List<EventoIntervalo> filas, int franja, long generacion) {
+        AgendaVenue leida = AgendaVenue.de(indice(filas, venueId));
+        if (generaciones.get(franja) != generacion) {
+            return leida;
+        }
+        AgendaVenue previa = cache.asMap().putIfAbsent(venueId, leida);
+        if (previa != null) {
+            return previa;
+        }
+        if (generaciones.get(franja) != generacion) {
+            cache.asMap().remove(venueId, leida);
+        }
+        return leida;
+    }
+
+    private void cambiar(Long venueId) {
+        generaciones.incrementAndGet(Math.floorMod(Long.hashCode(venueId), FRANJAS_VENUE));
+    }
+
+    /**
+     * Índice de las filas de un venue; con venueId, además recuerda el venue de cada evento
+     * (antes de que la agenda sea visible: un quitar concurrente ya lo encuentra).
+     */
+    private IndiceIntervalos indice(List<EventoIntervalo> filas, Long venueId) {
+        int n = filas.size();
+        long[] ids = new long[n];
+        long[] inicios = new long[n];
+        long[] fines = new long[n];
+        for (int i = 0; i < n; i++) {
+            EventoIntervalo f = filas.get(i);
+            ids[i] = f.getId();
+            inicios[i] = segundos(f.getFechaInicio());
+            fines[i] = segundos(f.getFechaFin());
+            if (venueId != null) {
+                venuePorEvento.put(f.getId(), venueId);
+            }
+        }
+        return IndiceIntervalos.de(ids, inicios, fines);
+    }
+
+    private static IntervaloEvento intervalo(IndiceIntervalos indice, int pos) {
+        return new IntervaloEvento(indice.id(pos), fecha(indice.inicio(pos)), fecha(indice.fin(pos)));
+    }
+
+    // LocalDateTime sin zona: UTC solo como escala fija para compararlas como enteros
+    private static long segundos(LocalDateTime fecha) {
+        return fecha.toEpochSecond(ZoneOffset.UTC);
+    }
+
+    private static LocalDateTime fecha(long segundos) {
+        return LocalDateTime.ofEpochSecond(segundos, 0, ZoneOffset.UTC);
+    }
+}
@@ -0,0 +1,24 @@
+package com.ticket.catalogo.adapters.out.persistence.cache;
+
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Publica las estadísticas de las cachés Caffeine (aciertos, fallos, desalojos, tamaño)
+ * como métricas cache.* con tag cache=venue|busqueda_eventos|agenda_venue.
+ */
+@Configuration
+public class CacheMetricasConfig {
+
+    @Bean
+    public MeterBinder cacheMetricas(CachingVenueRepositoryAdapter venues, EventoBusquedaCache busquedas,
+                                     AgendaVenueCache agendas) {
+        return registry -> {
+            CaffeineCacheMetrics.monitor(registry, venues.getCache(), "venue");
+            CaffeineCacheMetrics.monitor(registry, busquedas.getCache(), "busqueda_eventos");
+            CaffeineCacheMetrics.monitor(registry, agendas.getCache(), "agenda_venue");
+        };
+    }
+}
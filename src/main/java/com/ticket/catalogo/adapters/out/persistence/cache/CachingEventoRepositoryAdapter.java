@@ -0,0 +1,150 @@
+package com.ticket.catalogo.adapters.out.persistence.cache;
+
+import com.ticket.catalogo.adapters.out.persistence.jpa.adapter.JpaEventoRepositoryAdapter;
+import com.ticket.catalogo.application.DTO.EventoDto;
+import com.ticket.catalogo.application.DTO.FacetasEventoDto;
+import com.ticket.catalogo.application.port.out.EventoCursor;
+import com.ticket.catalogo.application.port.out.EventoRespositoryPort;
+import com.ticket.catalogo.application.port.out.EventoSearchCriteria;
+import com.ticket.catalogo.application.port.out.MarcaVersion;
+import com.ticket.catalogo.domain.model.Evento;
+import io.micrometer.core.annotation.Timed;
+import org.springframework.context.annotation.Primary;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.stereotype.Component;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Consumer;
+
+/**
+ * Delante de JpaEventoRepositoryAdapter: cachea searchDto(criteria, pageable) en EventoBusquedaCache
+ * y avanza sus generaciones en cada escritura.
+ * - Alta: solo se invalida lo que depende del venue del evento.
+ * - Update/delete (y transiciones masivas de estado): el venue anterior no se conoce aquí, así que se invalida todo.
+ */
+@Component
+@Primary
+@Timed("catalogo.repositorio")
+public class CachingEventoRepositoryAdapter implements EventoRespositoryPort {
+
+    private final EventoRespositoryPort delegate;
+    private final EventoBusquedaCache busquedaCache;
+
+    public CachingEventoRepositoryAdapter(JpaEventoRepositoryAdapter delegate, EventoBusquedaCache busquedaCache) {
+        this.delegate = delegate;
+        this.busquedaCache = busquedaCache;
+    }
+
+    @Override
+    public Evento save(Evento evento) {
+        boolean alta = evento.getId() == null;
+        Evento saved = delegate.save(evento);
+        if (alta) {
+            busquedaCache.escrituraEnVenue(saved.getVenue() == null ? null : saved.getVenue().getId());
+        } else {
+            busquedaCache.escrituraGlobal();
+        }
+        return saved;
+    }
+
+    @Override
+    public List<Evento> insertAll(List<Evento> eventos) {
+        List<Evento> insertados = delegate.insertAll(eventos);
+        insertados.stream()
+                .map(e -> e.getVenue().getId())
+                .distinct()
+                .forEach(busquedaCache::escrituraEnVenue);
+        return insertados;
+    }
+
+    @Override
+    public Optional<Evento> findById(Long id) {
+        return delegate.findById(id);
+    }
+
+    @Override
+    public List<Evento> findAllById(Collection<Long> ids) {
+        return delegate.findAllById(ids);
+    }
+
+    @Override
+    public List<Evento> findAll() {
+        return delegate.findAll();
+    }
+
+    @Override
+    public void forEach(Consumer<Evento> accion) {
+        delegate.forEach(accion);
+    }
+
+    @Override
+    public List<Evento> findByVenueId(Long venueId) {
+        return delegate.findByVenueId(venueId);
+    }
+
+    @Override
+    public boolean actualizarParcial(Long id, Long version, Evento cambios) {
+        boolean actualizado = delegate.actualizarParcial(id, version, cambios);
+        if (actualizado) {
+            busquedaCache.escrituraGlobal();
+        }
+        return actualizado;
+    }
+
+    @Override
+    public Optional<Long> findVersionById(Long id) {
+        return delegate.findVersionById(id);
+    }
+
+    @Override
+    public Optional<MarcaVersion> findMarcaById(Long id) {
+        return delegate.findMarcaById(id);
+    }
+
+    @Override
+    public boolean deleteById(Long id) {
+        boolean eliminado = delegate.deleteById(id);
+        if (eliminado) {
+            busquedaCache.escrituraGlobal();
+        }
+        return eliminado;
+    }
+
+    @Override
+    public List<Long> findIdsParaTransicion(EventoSearchCriteria criteria, String estadoDestino, long despuesDe, int limite) {
+        return delegate.findIdsParaTransicion(criteria, estadoDestino, despuesDe, limite);
+    }
+
+    @Override
+    public int cambiarEstado(Collection<Long> ids, EventoSearchCriteria criteria, String estadoDestino) {
+        int actualizados = delegate.cambiarEstado(ids, criteria, estadoDestino);
+        if (actualizados > 0) {
+            busquedaCache.escrituraGlobal();
+        }
+        return actualizados;
+    }
+
+    @Override
+    public Page<Evento> search(EventoSearchCriteria criteria, Pageable pageable) {
+        return delegate.search(criteria, pageable);
+    }
+
+    @Override
+    public Page<EventoDto> searchDto(EventoSearchCriteria criteria, Pageable pageable) {
+        return busquedaCache.obtener(criteria, pageable, () -> delegate.searchDto(criteria, pageable));
+    }
+
+    @Override
+    public FacetasEventoDto contarFacetas(EventoSearchCriteria criteria) {
+        return busquedaCache.obtenerFacetas(criteria, () -> delegate.contarFacetas(criteria));
+    }
+
+    @Override
+    public Slice<Evento> searchAfter(EventoSearchCriteria criteria, EventoCursor cursor, int size) {
+        return delegate.searchAfter(criteria, cursor, size);
+    }
+}
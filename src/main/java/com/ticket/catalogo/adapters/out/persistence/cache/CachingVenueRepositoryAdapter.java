@@ -0,0 +1,204 @@
+package com.ticket.catalogo.adapters.out.persistence.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import com.ticket.catalogo.adapters.out.persistence.jpa.adapter.JpaVenueRepositoryAdapter;
+import com.ticket.catalogo.application.port.out.MarcaVersion;
+import com.ticket.catalogo.application.port.out.VenueRepositoryPort;
+import com.ticket.catalogo.domain.model.Venue;
+import io.micrometer.core.annotation.Timed;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Primary;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+
+/**
+ * Caché read-through de Venue por id delante de JpaVenueRepositoryAdapter.
+ * - Tamaño acotado (W-TinyLFU de Caffeine) y TTL como red de seguridad.
+ * - save/actualizarParcial/deleteById invalidan la entrada exacta, al momento y al terminar la transacción,
+ *   y las búsquedas de eventos cacheadas que dependen de ese venue.
+ * - Una lectura solo llena la caché si ningún venue se invalidó mientras corría (generación) y
+ *   si el suyo no se invalidó en los últimos catalogo.cache.ventana-escritura: sin eso, una
+ *   lectura lenta, de la réplica o con una foto anterior volvería a guardar el venue previo a
+ *   la escritura y findMarcaById respondería 304 con un ETag viejo hasta el TTL.
+ * - Se entregan copias: los casos de uso modifican el Venue que reciben (p. ej. actualizarVenue).
+ * Listados y búsquedas no se cachean.
+ */
+@Component
+@Primary
+@Timed("catalogo.repositorio")
+public class CachingVenueRepositoryAdapter implements VenueRepositoryPort {
+
+    private final VenueRepositoryPort delegate;
+    private final EventoBusquedaCache busquedaCache;
+    private final Cache<Long, Venue> cache;
+    // Venues invalidados hace menos de la ventana: sus lecturas no se guardan
+    private final Cache<Long, Boolean> recientes;
+    private final AtomicLong generacion = new AtomicLong();
+
+    public CachingVenueRepositoryAdapter(JpaVenueRepositoryAdapter delegate,
+                                         EventoBusquedaCache busquedaCache,
+                                         @Value("${catalogo.cache.venue.max-size:10000}") long maxSize,
+                                         @Value("${catalogo.cache.venue.ttl:10m}") Duration ttl,
+                                         @Value("${catalogo.cache.ventana-escritura:30s}") Duration ventana) {
+        this.delegate = delegate;
+        this.busquedaCache = busquedaCache;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .build();
+        this.recientes = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(ventana)
+                .build();
+    }
+
+    @Override
+    public Venue save(Venue venue) {
+        Venue saved = delegate.save(venue);
+        invalidar(saved.getId());
+        return saved;
+    }
+
+    @Override
+    public Optional<Venue> findById(Long id) {
+        Venue cached = cache.getIfPresent(id);
+        if (cached != null) {
+            return Optional.of(copiar(cached));
+        }
+        long antes = generacion.get();
+        Optional<Venue> loaded = delegate.findById(id);
+        loaded.ifPresent(v -> guardar(v, antes));
+        return loaded;
+    }
+
+    /**
+     * Los aciertos salen de la caché; los fallos se cargan juntos en una sola consulta.
+     */
+    @Override
+    public List<Venue> findAllById(Collection<Long> ids) {
+        Map<Long, Venue> encontrados = new HashMap<>(cache.getAllPresent(ids));
+        List<Long> faltantes = ids.stream().filter(id -> !encontrados.containsKey(id)).collect(Collectors.toList());
+        if (!faltantes.isEmpty()) {
+            long antes = generacion.get();
+            for (Venue v : delegate.findAllById(faltantes)) {
+                guardar(v, antes);
+                encontrados.put(v.getId(), v);
+            }
+        }
+        return ids.stream()
+                .map(encontrados::get)
+                .filter(Objects::nonNull)
+                .map(CachingVenueRepositoryAdapter::copiar)
+                .collect(Collectors.toList());
+    }
+
+    @Override
+    public List<Venue> findAll() {
+        return delegate.findAll();
+    }
+
+    @Override
+    public List<Venue> findByVenueId(Long venueId) {
+        return delegate.findByVenueId(venueId);
+    }
+
+    @Override
+    public boolean actualizarParcial(Long id, Long version, Venue cambios) {
+        boolean actualizado = delegate.actualizarParcial(id, version, cambios);
+        if (actualizado) {
+            invalidar(id);
+        }
+        return actualizado;
+    }
+
+    // Sin caché: se usa para decidir conflictos de versión y debe ver la fila actual
+    @Override
+    public Optional<Long> findVersionById(Long id) {
+        return delegate.findVersionById(id);
+    }
+
+    // Con el venue en caché el GET condicional no toca la base
+    @Override
+    public Optional<MarcaVersion> findMarcaById(Long id) {
+        Venue cached = cache.getIfPresent(id);
+        if (cached != null) {
+            return Optional.of(MarcaVersion.de(cached));
+        }
+        return delegate.findMarcaById(id);
+    }
+
+    @Override
+    public boolean deleteById(Long id) {
+        boolean eliminado = delegate.deleteById(id);
+        if (eliminado) {
+            invalidar(id);
+        }
+        return eliminado;
+    }
+
+    @Override
+    public Page<Venue> buscarPorNombre(String texto, Pageable pageable) {
+        return delegate.buscarPorNombre(texto, pageable);
+    }
+
+    @Override
+    public Page<Venue> listar(String nombrePrefijo, String ubicacionPrefijo, Pageable pageable) {
+        return delegate.listar(nombrePrefijo, ubicacionPrefijo, pageable);
+    }
+
+    public Cache<Long, Venue> getCache() {
+        return cache;
+    }
+
+    public CacheStats stats() {
+        return cache.stats();
+    }
+
+    /**
+     * Guarda un venue leído cuando la generación era antes. Si hubo una invalidación durante la
+     * lectura (o justo entre la comprobación y el put), la entrada se descarta.
+     */
+    private void guardar(Venue v, long antes) {
+        if (generacion.get() != antes || recientes.getIfPresent(v.getId()) != null) {
+            return;
+        }
+        cache.put(v.getId(), copiar(v));
+        if (generacion.get() != antes) {
+            cache.invalidate(v.getId());
+        }
+    }
+
+    private void invalidar(Long id) {
+        if (id != null) {
+            // Primero la marca y la generación: un guardar concurrente ve al menos una de las dos
+            DespuesDelCommit.ahoraYAlTerminar(() -> {
+                recientes.put(id, Boolean.TRUE);
+                generacion.incrementAndGet();
+                cache.invalidate(id);
+            });
+            // Las búsquedas de eventos llevan el nombre del venue (y el borrado elimina sus eventos)
+            busquedaCache.escrituraEnVenue(id);
+        }
+    }
+
+    private static Venue copiar(Venue v) {
+        Venue copia = new Venue(v.getId(), v.getNombre(), v.getCapacidad(), v.getUbicacion(), null);
+        copia.setVersion(v.getVersion());
+        copia.setActualizadoEn(v.getActualizadoEn());
+        return copia;
+    }
+}
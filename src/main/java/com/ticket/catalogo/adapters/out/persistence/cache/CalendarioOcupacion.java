@@ -0,0 +1,98 @@
+package com.ticket.catalogo.adapters.out.persistence.cache;
+
+import java.util.BitSet;
+
+/**
+ * Días ocupados de un venue como bitmap: el bit i corresponde al día base + i (días desde
+ * 1970-01-01). Un día está ocupado si algún evento se solapa con [00:00, 24:00) de ese día;
+ * un evento que termina justo a medianoche no ocupa el día siguiente.
+ * Es inmutable (las actualizaciones copian el BitSet) y se mantiene junto al IndiceIntervalos
+ * del venue: cada escritura recalcula solo los días que tocan el intervalo anterior y el nuevo,
+ * consultando el índice.
+ */
+final class CalendarioOcupacion {
+
+    static final long SEGUNDOS_POR_DIA = 86_400;
+
+    static final CalendarioOcupacion VACIO = new CalendarioOcupacion(0, new BitSet());
+
+    private final long base;
+    private final BitSet dias;
+
+    private CalendarioOcupacion(long base, BitSet dias) {
+        this.base = base;
+        this.dias = dias;
+    }
+
+    /**
+     * Reconstrucción completa a partir del índice: cada intervalo marca su rango de días.
+     */
+    static CalendarioOcupacion de(IndiceIntervalos indice) {
+        if (indice.tamano() == 0) {
+            return VACIO;
+        }
+        long base = Long.MAX_VALUE;
+        for (int i = 0; i < indice.tamano(); i++) {
+            base = Math.min(base, primerDia(indice.inicio(i)));
+        }
+        BitSet dias = new BitSet();
+        for (int i = 0; i < indice.tamano(); i++) {
+            long desde = primerDia(indice.inicio(i));
+            long hasta = ultimoDia(indice.inicio(i), indice.fin(i));
+            if (hasta >= desde) {
+                dias.set((int) (desde - base), (int) (hasta - base) + 1);
+            }
+        }
+        return new CalendarioOcupacion(base, dias);
+    }
+
+    /**
+     * Copia con los días de [inicio, fin) recalculados según indice (que ya refleja la escritura).
+     */
+    CalendarioOcupacion recalcular(IndiceIntervalos indice, long inicio, long fin) {
+        long desde = primerDia(inicio);
+        long hasta = ultimoDia(inicio, fin);
+        if (hasta < desde) {
+            return this;
+        }
+        if (!dias.isEmpty() && desde < base) {
+            return de(indice); // el bitmap no llega tan atrás: se reconstruye con otra base
+        }
+        long nuevaBase = dias.isEmpty() ? desde : base;
+        BitSet copia = (BitSet) dias.clone();
+        for (long d = desde; d <= hasta; d++) {
+            boolean ocupado = indice.primerSolapado(d * SEGUNDOS_POR_DIA, (d + 1) * SEGUNDOS_POR_DIA, Long.MIN_VALUE) >= 0;
+            copia.set((int) (d - nuevaBase), ocupado);
+        }
+        return new CalendarioOcupacion(nuevaBase, copia);
+    }
+
+    /**
+     * Días ocupados de [desdeDia, hastaDia): bit i = día desdeDia + i.
+     */
+    BitSet ocupados(long desdeDia, long hastaDia) {
+        long desde = Math.max(desdeDia, base);
+        if (dias.isEmpty() || desde >= hastaDia) {
+            return new BitSet();
+        }
+        BitSet tramo = dias.get((int) (desde - base), (int) (hastaDia - base));
+        long desplazamiento = desde - desdeDia;
+        if (desplazamiento == 0) {
+            return tramo;
+        }
+        BitSet corrido = new BitSet();
+        for (int i = tramo.nextSetBit(0); i >= 0; i = tramo.nextSetBit(i + 1)) {
+            corrido.set((int) (i + desplazamiento));
+        }
+        return corrido;
+    }
+
+    private static long primerDia(long inicio) {
+        return Math.floorDiv(inicio, SEGUNDOS_POR_DIA);
+    }
+
+    // Fin semiabierto: el último segundo ocupado es fin - 1
+    private static long ultimoDia(long inicio, long fin) {
+        return fin <= inicio ? primerDia(inicio) - 1 : Math.floorDiv(fin - 1, SEGUNDOS_POR_DIA);
+    }
+}
@@ -0,0 +1,48 @@
+package com.ticket.catalogo.adapters.out.persistence.cache;
+
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Ejecuta una acción ahora y, si hay una transacción activa, otra vez al terminarla.
+ * Las cachés lo usan para invalidar: la segunda invalidación descarta lo que un lector
+ * concurrente haya cacheado con datos previos al commit.
+ */
+final class DespuesDelCommit {
+
+    private DespuesDelCommit() {
+        // utilitario
+    }
+
+    static void ahoraYAlTerminar(Runnable accion) {
+        accion.run();
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    accion.run();
+                }
+            });
+        }
+    }
+
+    /**
+     * Como ahoraYAlTerminar, pero si la transacción se revierte ejecuta siSeRevierte en lugar
+     * de repetir la acción: para estructuras que se actualizan (no solo se invalidan) en la escritura.
+     */
+    static void ahoraYAlTerminar(Runnable accion, Runnable siSeRevierte) {
+        accion.run();
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    if (status == STATUS_COMMITTED) {
+                        accion.run();
+                    } else {
+                        siSeRevierte.run();
+                    }
+                }
+            });
+        }
+    }
+}
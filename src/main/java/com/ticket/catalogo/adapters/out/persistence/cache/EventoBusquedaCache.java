@@ -0,0 +1,165 @@
+package com.ticket.catalogo.adapters.out.persistence.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.ticket.catalogo.application.port.out.EventoSearchCriteria;
+import com.ticket.catalogo.application.DTO.EventoDto;
+import com.ticket.catalogo.application.DTO.FacetasEventoDto;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.function.Supplier;
+
+/**
+ * Caché de páginas de búsqueda de eventos (ya proyectadas a EventoDto), con clave (criteria, pageable, generaciones).
+ * Las facetas de una búsqueda van en la misma caché con pageable null: se comparten entre sus páginas.
+ * No se borran entradas: cada escritura incrementa un contador de generación y las entradas
+ * con una generación anterior dejan de ser alcanzables (y salen por tamaño/TTL).
+ * - global: lo incrementan las escrituras de alcance desconocido (update/delete de eventos,
+ *   cambios de venue); afecta a todas las búsquedas.
+ * - sinVenue: lo incrementa cualquier escritura de evento; afecta a búsquedas sin venueId.
+ * - porVenue: lo incrementa una escritura que toca ese venue; afecta a búsquedas con ese venueId.
+ *   Es un arreglo fijo de franjas (venues distintos pueden compartir contador): no crece con
+ *   la cantidad de venues, a costa de invalidar de más cuando dos venues coinciden.
+ * - Con lecturas en réplica, una búsqueda leída menos de catalogo.cache.ventana-escritura después
+ *   del último incremento que le afecta se responde pero no se guarda: la réplica puede no tener
+ *   todavía la escritura, y guardarla bajo la generación nueva la serviría hasta el TTL.
+ * Las páginas cacheadas se comparten entre peticiones: se tratan como solo lectura.
+ */
+@Component
+public class EventoBusquedaCache {
+
+    static final int FRANJAS_VENUE = 1024;
+
+    private final Cache<Clave, Object> cache;
+    private final AtomicLong global = new AtomicLong();
+    private final AtomicLong sinVenue = new AtomicLong();
+    private final AtomicLongArray porVenue = new AtomicLongArray(FRANJAS_VENUE);
+    // System.nanoTime() del último incremento de cada contador; solo se usan con ventana > 0
+    private final long ventana;
+    private volatile long ultimaGlobal;
+    private volatile long ultimaSinVenue;
+    private final AtomicLongArray ultimaPorVenue = new AtomicLongArray(FRANJAS_VENUE);
+
+    public EventoBusquedaCache(@Value("${catalogo.cache.busqueda.max-size:1000}") long maxSize,
+                               @Value("${catalogo.cache.busqueda.ttl:5m}") Duration ttl,
+                               @Value("${catalogo.datasource.replica.enabled:false}") boolean lecturasEnReplica,
+                               @Value("${catalogo.cache.ventana-escritura:30s}") Duration ventanaEscritura) {
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .build();
+        this.ventana = lecturasEnReplica ? ventanaEscritura.toNanos() : 0;
+        long haceUnaVentana = System.nanoTime() - ventana;
+        this.ultimaGlobal = haceUnaVentana;
+        this.ultimaSinVenue = haceUnaVentana;
+        for (int i = 0; i < FRANJAS_VENUE; i++) {
+            ultimaPorVenue.set(i, haceUnaVentana);
+        }
+    }
+
+    /**
+     * Devuelve la página cacheada o la calcula. La generación se lee antes de consultar,
+     * así un resultado leído durante una escritura queda bajo una generación ya superada.
+     */
+    public Page<EventoDto> obtener(EventoSearchCriteria criteria, Pageable pageable, Supplier<Page<EventoDto>> loader) {
+        return cargar(criteria, pageable, loader);
+    }
+
+    /** Facetas de la búsqueda, con las mismas generaciones que sus páginas. */
+    public FacetasEventoDto obtenerFacetas(EventoSearchCriteria criteria, Supplier<FacetasEventoDto> loader) {
+        return cargar(criteria, null, loader);
+    }
+
+    @SuppressWarnings("unchecked")
+    private <T> T cargar(EventoSearchCriteria criteria, Pageable pageable, Supplier<T> loader) {
+        Long venueId = criteria == null ? null : criteria.getVenueId();
+        int franja = venueId == null ? -1 : franja(venueId);
+        long generacionFiltro = venueId == null ? sinVenue.get() : porVenue.get(franja);
+        Clave clave = new Clave(criteria, pageable, global.get(), generacionFiltro);
+
+        Object cached = cache.getIfPresent(clave);
+        if (cached != null) {
+            return (T) cached;
+        }
+        // Después de leer las generaciones: cada incremento publica su hora antes de sí mismo
+        boolean reciente = ventana > 0 && (enVentana(ultimaGlobal)
+                || enVentana(venueId == null ? ultimaSinVenue : ultimaPorVenue.get(franja)));
+        T valor = loader.get();
+        if (!reciente) {
+            cache.put(clave, valor);
+        }
+        return valor;
+    }
+
+    /** Escritura de un evento en un venue conocido (p. ej. alta). */
+    public void escrituraEnVenue(Long venueId) {
+        DespuesDelCommit.ahoraYAlTerminar(() -> {
+            long ahora = System.nanoTime();
+            ultimaSinVenue = ahora;
+            sinVenue.incrementAndGet();
+            if (venueId != null) {
+                int franja = franja(venueId);
+                ultimaPorVenue.set(franja, ahora);
+                porVenue.incrementAndGet(franja);
+            }
+        });
+    }
+
+    /** Escritura cuyo alcance no se conoce (update/delete por id, cambios de venue). */
+    public void escrituraGlobal() {
+        DespuesDelCommit.ahoraYAlTerminar(() -> {
+            ultimaGlobal = System.nanoTime();
+            global.incrementAndGet();
+        });
+    }
+
+    public Cache<Clave, Object> getCache() {
+        return cache;
+    }
+
+    private boolean enVentana(long ultima) {
+        return System.nanoTime() - ultima < ventana;
+    }
+
+    private static int franja(Long venueId) {
+        return Math.floorMod(Long.hashCode(venueId), FRANJAS_VENUE);
+    }
+
+    static final class Clave {
+        private final EventoSearchCriteria criteria;
+        private final Pageable pageable;
+        private final long generacionGlobal;
+        private final long generacionFiltro;
+
+        Clave(EventoSearchCriteria criteria, Pageable pageable, long generacionGlobal, long generacionFiltro) {
+            this.criteria = criteria;
+            this.pageable = pageable;
+            this.generacionGlobal = generacionGlobal;
+            this.generacionFiltro = generacionFiltro;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (!(o instanceof Clave)) return false;
+            Clave that = (Clave) o;
+            return generacionGlobal == that.generacionGlobal &&
+                    generacionFiltro == that.generacionFiltro &&
+                    Objects.equals(criteria, that.criteria) &&
+                    Objects.equals(pageable, that.pageable);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(criteria, pageable, generacionGlobal, generacionFiltro);
+        }
+    }
+}
@@ -0,0 +1,199 @@
+package com.ticket.catalogo.adapters.out.persistence.cache;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Intervalos [inicio, fin) de los eventos de un venue sobre arreglos primitivos ordenados por
+ * (inicio, id). Es inmutable: con / sin devuelven una copia, así los lectores nunca ven un
+ * índice a medio modificar y no necesitan bloqueo.
+ * - El arreglo se recorre como un árbol binario implícito (la raíz de [lo, hi) es el medio) y
+ *   maxFin[m] guarda el mayor fin de ese subárbol: la búsqueda descarta subárboles que terminan
+ *   antes de la ventana y los que empiezan después, en O(log n + k).
+ * - Los tiempos son enteros (segundos) en la misma escala para todo el índice.
+ * - Intervalos semiabiertos: un evento que termina a las 22:00 no choca con otro que empieza a las 22:00.
+ */
+public final class IndiceIntervalos {
+
+    public static final IndiceIntervalos VACIO = new IndiceIntervalos(new long[0], new long[0], new long[0]);
+
+    private final long[] ids;
+    private final long[] inicios;
+    private final long[] fines;
+    private final long[] maxFin;
+
+    private IndiceIntervalos(long[] ids, long[] inicios, long[] fines) {
+        this.ids = ids;
+        this.inicios = inicios;
+        this.fines = fines;
+        this.maxFin = new long[ids.length];
+        calcularMaxFin(0, ids.length);
+    }
+
+    /**
+     * Construye el índice a partir de tres arreglos paralelos (se copian; no hace falta que estén ordenados).
+     */
+    public static IndiceIntervalos de(long[] ids, long[] inicios, long[] fines) {
+        int n = ids.length;
+        Integer[] orden = new Integer[n];
+        for (int i = 0; i < n; i++) orden[i] = i;
+        Arrays.sort(orden, (a, b) -> inicios[a] != inicios[b]
+                ? Long.compare(inicios[a], inicios[b])
+                : Long.compare(ids[a], ids[b]));
+        long[] i2 = new long[n];
+        long[] ini2 = new long[n];
+        long[] fin2 = new long[n];
+        for (int k = 0; k < n; k++) {
+            i2[k] = ids[orden[k]];
+            ini2[k] = inicios[orden[k]];
+            fin2[k] = fines[orden[k]];
+        }
+        return new IndiceIntervalos(i2, ini2, fin2);
+    }
+
+    public int tamano() {
+        return ids.length;
+    }
+
+    public long[] ids() {
+        return ids.clone();
+    }
+
+    /**
+     * Copia con el evento id en [inicio, fin), reemplazando su intervalo anterior si lo tenía.
+     */
+    public IndiceIntervalos con(long id, long inicio, long fin) {
+        IndiceIntervalos base = sin(id);
+        int n = base.ids.length;
+        int pos = base.posicion(inicio, id);
+        long[] i2 = new long[n + 1];
+        long[] ini2 = new long[n + 1];
+        long[] fin2 = new long[n + 1];
+        insertar(base.ids, i2, pos, id);
+        insertar(base.inicios, ini2, pos, inicio);
+        insertar(base.fines, fin2, pos, fin);
+        return new IndiceIntervalos(i2, ini2, fin2);
+    }
+
+    /**
+     * Copia sin el evento id; el mismo índice si no estaba.
+     */
+    public IndiceIntervalos sin(long id) {
+        int pos = posicionDe(id);
+        if (pos < 0) {
+            return this;
+        }
+        int n = ids.length;
+        long[] i2 = new long[n - 1];
+        long[] ini2 = new long[n - 1];
+        long[] fin2 = new long[n - 1];
+        quitar(ids, i2, pos);
+        quitar(inicios, ini2, pos);
+        quitar(fines, fin2, pos);
+        return new IndiceIntervalos(i2, ini2, fin2);
+    }
+
+    /**
+     * Posición de algún intervalo que se solapa con [desde, hasta) y no pertenece a excluirId;
+     * -1 si no hay. Se detiene en el primero.
+     */
+    public int primerSolapado(long desde, long hasta, long excluirId) {
+        return buscar(0, ids.length, desde, hasta, excluirId, null);
+    }
+
+    /**
+     * Posiciones de los intervalos que se solapan con [desde, hasta), en orden de inicio.
+     */
+    public List<Integer> solapados(long desde, long hasta) {
+        List<Integer> encontrados = new ArrayList<>();
+        buscar(0, ids.length, desde, hasta, Long.MIN_VALUE, encontrados);
+        return encontrados;
+    }
+
+    /**
+     * Posición del evento id; -1 si no está.
+     */
+    public int posicionDe(long id) {
+        for (int i = 0; i < ids.length; i++) {
+            if (ids[i] == id) return i;
+        }
+        return -1;
+    }
+
+    public long id(int posicion) {
+        return ids[posicion];
+    }
+
+    public long inicio(int posicion) {
+        return inicios[posicion];
+    }
+
+    public long fin(int posicion) {
+        return fines[posicion];
+    }
+
+    /**
+     * Recorrido en orden del subárbol [lo, hi). Con destino null devuelve el primer acierto;
+     * si no, acumula todos y devuelve -1.
+     */
+    private int buscar(int lo, int hi, long desde, long hasta, long excluirId, List<Integer> destino) {
+        if (lo >= hi) {
+            return -1;
+        }
+        int m = (lo + hi) >>> 1;
+        if (maxFin[m] <= desde) {
+            return -1; // todo el subárbol termina antes de la ventana
+        }
+        int izquierda = buscar(lo, m, desde, hasta, excluirId, destino);
+        if (izquierda >= 0) {
+            return izquierda;
+        }
+        if (inicios[m] >= hasta) {
+            return -1; // m y todo su subárbol derecho empiezan después de la ventana
+        }
+        if (fines[m] > desde && ids[m] != excluirId) {
+            if (destino == null) {
+                return m;
+            }
+            destino.add(m);
+        }
+        return buscar(m + 1, hi, desde, hasta, excluirId, destino);
+    }
+
+    private long calcularMaxFin(int lo, int hi) {
+        if (lo >= hi) {
+            return Long.MIN_VALUE;
+        }
+        int m = (lo + hi) >>> 1;
+        long max = Math.max(fines[m], Math.max(calcularMaxFin(lo, m), calcularMaxFin(m + 1, hi)));
+        maxFin[m] = max;
+        return max;
+    }
+
+    // Primera posición cuyo (inicio, id) es mayor que el dado
+    private int posicion(long inicio, long id) {
+        int lo = 0;
+        int hi = ids.length;
+        while (lo < hi) {
+            int m = (lo + hi) >>> 1;
+            if (inicios[m] < inicio || (inicios[m] == inicio && ids[m] < id)) {
+                lo = m + 1;
+            } else {
+                hi = m;
+            }
+        }
+        return lo;
+    }
+
+    private static void insertar(long[] origen, long[] destino, int pos, long valor) {
+        System.arraycopy(origen, 0, destino, 0, pos);
+        destino[pos] = valor;
+        System.arraycopy(origen, pos, destino, pos + 1, origen.length - pos);
+    }
+
+    private static void quitar(long[] origen, long[] destino, int pos) {
+        System.arraycopy(origen, 0, destino, 0, pos);
+        System.arraycopy(origen, pos + 1, destino, pos, origen.length - pos - 1);
+    }
+}
@@ -0,0 +1,112 @@
+package com.ticket.catalogo.adapters.out.persistence.datasource;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.scheduling.annotation.Scheduled;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+
+/**
+ * Decide si la réplica puede atender lecturas.
+ * - Cada catalogo.datasource.replica.comprobacion pide una conexión a la réplica y lee
+ *   SHOW REPLICA STATUS: retraso por encima de retraso-maximo, replicación detenida
+ *   (Seconds_Behind_Source nulo) o cualquier error la marcan como no disponible.
+ * - Sin filas en SHOW REPLICA STATUS (una segunda instancia sin replicación, p. ej. en local)
+ *   se considera retraso 0.
+ * - ReplicaConRespaldo también la marca caída si no consigue conexión; la siguiente
+ *   comprobación correcta la rehabilita.
+ * Publica catalogo.datasource.replica.disponible (1/0) y catalogo.datasource.replica.retraso (segundos).
+ */
+public class MonitorReplica implements MeterBinder {
+
+    private static final Logger log = LoggerFactory.getLogger(MonitorReplica.class);
+
+    private final DataSource replica;
+    private final long retrasoMaximoSegundos;
+
+    private volatile boolean disponible = true;
+    private volatile long retrasoSegundos;
+
+    public MonitorReplica(DataSource replica, Duration retrasoMaximo) {
+        this.replica = replica;
+        this.retrasoMaximoSegundos = retrasoMaximo.toSeconds();
+    }
+
+    public boolean disponible() {
+        return disponible;
+    }
+
+    public void marcarCaida(Exception causa) {
+        if (disponible) {
+            log.warn("Réplica no disponible, las lecturas van al primario: {}", causa.getMessage());
+        }
+        disponible = false;
+    }
+
+    @Scheduled(fixedDelayString = "${catalogo.datasource.replica.comprobacion:5s}")
+    public void comprobar() {
+        try {
+            long retraso = leerRetraso();
+            retrasoSegundos = retraso;
+            if (retraso > retrasoMaximoSegundos) {
+                if (disponible) {
+                    log.warn("Réplica con {} s de retraso (máximo {} s), las lecturas van al primario",
+                            retraso, retrasoMaximoSegundos);
+                }
+                disponible = false;
+                return;
+            }
+            if (!disponible) {
+                log.info("Réplica disponible de nuevo ({} s de retraso)", retraso);
+            }
+            disponible = true;
+        } catch (Exception e) {
+            marcarCaida(e);
+        }
+    }
+
+    private long leerRetraso() throws SQLException {
+        try (Connection conexion = replica.getConnection();
+             Statement sentencia = conexion.createStatement();
+             ResultSet rs = sentencia.executeQuery("SHOW REPLICA STATUS")) {
+            if (!rs.next()) {
+                return 0;
+            }
+            // MySQL 8.0.22+ usa Seconds_Behind_Source; MariaDB mantiene Seconds_Behind_Master
+            long retraso = rs.getLong(columnaRetraso(rs));
+            if (rs.wasNull()) {
+                throw new SQLException("La replicación está detenida (Seconds_Behind_Source nulo)");
+            }
+            return retraso;
+        }
+    }
+
+    private static String columnaRetraso(ResultSet rs) throws SQLException {
+        var metadatos = rs.getMetaData();
+        for (int i = 1; i <= metadatos.getColumnCount(); i++) {
+            if ("Seconds_Behind_Source".equalsIgnoreCase(metadatos.getColumnLabel(i))) {
+                return "Seconds_Behind_Source";
+            }
+        }
+        return "Seconds_Behind_Master";
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        Gauge.builder("catalogo.datasource.replica.disponible", this, m -> m.disponible ? 1 : 0)
+                .description("1 si las transacciones de solo lectura van a la réplica")
+                .register(registry);
+        Gauge.builder("catalogo.datasource.replica.retraso", this, m -> m.retrasoSegundos)
+                .description("Retraso de replicación en la última comprobación")
+                .baseUnit("seconds")
+                .register(registry);
+    }
+}
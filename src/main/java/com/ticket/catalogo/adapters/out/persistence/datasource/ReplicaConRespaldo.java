@@ -0,0 +1,59 @@
+package com.ticket.catalogo.adapters.out.persistence.datasource;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * DataSource de solo lectura: entrega conexiones de la réplica mientras MonitorReplica la
+ * considere disponible y, si no, del primario. Un fallo al pedir conexión a la réplica
+ * se reintenta en el primario y la marca caída hasta la siguiente comprobación.
+ * Cuenta las conexiones entregadas por destino en catalogo.datasource.lecturas{destino}.
+ */
+class ReplicaConRespaldo extends DelegatingDataSource implements MeterBinder {
+
+    private final DataSource primario;
+    private final MonitorReplica monitor;
+    private final LongAdder aReplica = new LongAdder();
+    private final LongAdder aPrimario = new LongAdder();
+
+    ReplicaConRespaldo(DataSource replica, DataSource primario, MonitorReplica monitor) {
+        super(replica);
+        this.primario = primario;
+        this.monitor = monitor;
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        if (monitor.disponible()) {
+            try {
+                Connection conexion = obtainTargetDataSource().getConnection();
+                aReplica.increment();
+                return conexion;
+            } catch (SQLException | RuntimeException e) {
+                monitor.marcarCaida(e);
+            }
+        }
+        aPrimario.increment();
+        return primario.getConnection();
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        contador(registry, "replica", aReplica);
+        contador(registry, "primario", aPrimario);
+    }
+
+    private static void contador(MeterRegistry registry, String destino, LongAdder valor) {
+        FunctionCounter.builder("catalogo.datasource.lecturas", valor, LongAdder::doubleValue)
+                .tag("destino", destino)
+                .description("Conexiones entregadas a transacciones de solo lectura")
+                .register(registry);
+    }
+}
@@ -0,0 +1,79 @@
+package com.ticket.catalogo.adapters.out.persistence.datasource;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.jdbc.DataSourceBuilder;
+import org.springframework.boot.jdbc.autoconfigure.DataSourceProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+
+/**
+ * Ruteo lectura/escritura (catalogo.datasource.replica.enabled=true).
+ * - Dos pools Hikari: "primario" (spring.datasource.*) y "replica" (catalogo.datasource.replica.*),
+ *   con métricas hikaricp.* separadas por el tag pool.
+ * - El DataSource de la aplicación es un LazyConnectionDataSourceProxy: la conexión real se pide
+ *   en la primera sentencia, cuando la transacción ya marcó la conexión como read-only
+ *   (@Transactional(readOnly = true)); esas van a la réplica y el resto al primario.
+ * - Si la réplica se retrasa o no responde, las lecturas vuelven al primario (MonitorReplica).
+ * Flyway y las transacciones de escritura usan siempre el primario. Los pools se construyen desde
+ * las propiedades: @ServiceConnection no aplica con el ruteo activo.
+ */
+@Configuration
+@ConditionalOnProperty(name = "catalogo.datasource.replica.enabled", havingValue = "true")
+public class RuteoDataSourceConfig {
+
+    @Bean
+    @ConfigurationProperties("spring.datasource.hikari")
+    public HikariDataSource primarioDataSource(DataSourceProperties propiedades) {
+        HikariDataSource dataSource = propiedades.initializeDataSourceBuilder()
+                .type(HikariDataSource.class)
+                .build();
+        dataSource.setPoolName("primario");
+        return dataSource;
+    }
+
+    @Bean
+    @ConfigurationProperties("catalogo.datasource.replica.hikari")
+    public HikariDataSource replicaDataSource(DataSourceProperties propiedades,
+                                              @Value("${catalogo.datasource.replica.url}") String url,
+                                              @Value("${catalogo.datasource.replica.username:${spring.datasource.username}}") String usuario,
+                                              @Value("${catalogo.datasource.replica.password:${spring.datasource.password}}") String clave) {
+        HikariDataSource dataSource = DataSourceBuilder.create()
+                .type(HikariDataSource.class)
+                .driverClassName(propiedades.determineDriverClassName())
+                .url(url)
+                .username(usuario)
+                .password(clave)
+                .build();
+        dataSource.setPoolName("replica");
+        dataSource.setReadOnly(true);
+        return dataSource;
+    }
+
+    @Bean
+    public MonitorReplica monitorReplica(HikariDataSource replicaDataSource,
+                                         @Value("${catalogo.datasource.replica.retraso-maximo:10s}") Duration retrasoMaximo) {
+        return new MonitorReplica(replicaDataSource, retrasoMaximo);
+    }
+
+    @Bean
+    ReplicaConRespaldo lecturasDataSource(HikariDataSource replicaDataSource, HikariDataSource primarioDataSource,
+                                          MonitorReplica monitorReplica) {
+        return new ReplicaConRespaldo(replicaDataSource, primarioDataSource, monitorReplica);
+    }
+
+    @Bean
+    @Primary
+    public DataSource dataSource(HikariDataSource primarioDataSource, ReplicaConRespaldo lecturasDataSource) {
+        LazyConnectionDataSourceProxy proxy = new LazyConnectionDataSourceProxy(primarioDataSource);
+        proxy.setReadOnlyDataSource(lecturasDataSource);
+        return proxy;
+    }
+}
@@ -0,0 +1,88 @@
+package com.ticket.catalogo.adapters.out.persistence.jdbc;
+
+import com.ticket.catalogo.application.port.out.CambioRepositoryPort;
+import com.ticket.catalogo.domain.model.Cambio;
+import io.micrometer.core.annotation.Timed;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * catalogo_cambio con JdbcTemplate: filas de solo agregado que nunca se releen como entidades.
+ * Participa de la transacción JPA en curso (mismo DataSource).
+ */
+@Repository
+@Timed("catalogo.repositorio")
+public class JdbcCambioRepositoryAdapter implements CambioRepositoryPort {
+
+    private static final String INSERT_CAMBIO =
+            "INSERT INTO catalogo_cambio (entidad, entidad_id, operacion, version) VALUES (?, ?, ?, ?)";
+
+    private static final RowMapper<Cambio> FILA = (rs, n) -> {
+        Timestamp registrado = rs.getTimestamp("registrado_en");
+        return new Cambio(
+                rs.getLong("id"),
+                Cambio.Entidad.valueOf(rs.getString("entidad")),
+                rs.getLong("entidad_id"),
+                Cambio.Operacion.valueOf(rs.getString("operacion")),
+                rs.getObject("version", Long.class),
+                registrado == null ? null : registrado.toInstant());
+    };
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public JdbcCambioRepositoryAdapter(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @Override
+    public void registrar(Cambio.Entidad entidad, Long entidadId, Cambio.Operacion operacion, Long version) {
+        jdbcTemplate.update(INSERT_CAMBIO, entidad.name(), entidadId, operacion.name(), version);
+    }
+
+    @Override
+    public void registrarAltas(Cambio.Entidad entidad, Collection<Long> ids) {
+        if (ids.isEmpty()) return;
+        List<Object[]> filas = new ArrayList<>(ids.size());
+        for (Long id : ids) {
+            filas.add(new Object[]{entidad.name(), id, Cambio.Operacion.ALTA.name(), 0L});
+        }
+        jdbcTemplate.batchUpdate(INSERT_CAMBIO, filas);
+    }
+
+    @Override
+    public int registrarBajasDeEventosDelVenue(Long venueId) {
+        return jdbcTemplate.update("INSERT INTO catalogo_cambio (entidad, entidad_id, operacion)"
+                + " SELECT 'EVENTO', id, 'BAJA' FROM evento WHERE venue_id = ? ORDER BY id", venueId);
+    }
+
+    @Override
+    public int registrarCambiosDeEstado(Collection<Long> eventoIds, String estado) {
+        if (eventoIds.isEmpty()) return 0;
+        // Lectura actual (no snapshot): ve las filas que acaba de actualizar esta transacción
+        String marcadores = String.join(", ", Collections.nCopies(eventoIds.size(), "?"));
+        List<Object> argumentos = new ArrayList<>(eventoIds.size() + 1);
+        argumentos.addAll(eventoIds);
+        argumentos.add(estado);
+        return jdbcTemplate.update("INSERT INTO catalogo_cambio (entidad, entidad_id, operacion, version)"
+                + " SELECT 'EVENTO', id, 'CAMBIO', version FROM evento"
+                + " WHERE id IN (" + marcadores + ") AND estado = ? ORDER BY id", argumentos.toArray());
+    }
+
+    @Override
+    public List<Cambio> listarDesde(long despuesDe, int limite, Duration margen) {
+        // El margen se mide con el reloj de la base, el mismo que fija registrado_en
+        return jdbcTemplate.query("SELECT id, entidad, entidad_id, operacion, version, registrado_en"
+                        + " FROM catalogo_cambio"
+                        + " WHERE id > ? AND registrado_en <= NOW(3) - INTERVAL ? MICROSECOND"
+                        + " ORDER BY id LIMIT ?",
+                FILA, despuesDe, margen.toNanos() / 1_000, limite);
+    }
+}
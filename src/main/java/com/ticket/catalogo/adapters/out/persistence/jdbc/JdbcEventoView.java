@@ -0,0 +1,69 @@
+package com.ticket.catalogo.adapters.out.persistence.jdbc;
+
+import io.micrometer.core.annotation.Timed;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.Collections;
+
+/**
+ * Escrituras de evento_view (modelo de lectura de eventos) con JdbcTemplate, en la transacción
+ * JPA en curso: las llaman los adapters JPA de evento y venue justo después de su propia escritura.
+ * - Cada fila se copia de evento JOIN venue con un solo INSERT ... SELECT ... ON DUPLICATE KEY UPDATE:
+ *   sirve para altas y cambios, y la fila queda igual a lo que se acaba de escribir.
+ * - Las bajas no pasan por aquí: las hace la FK ON DELETE CASCADE de evento_view.
+ */
+@Repository
+@Timed("catalogo.repositorio")
+public class JdbcEventoView {
+
+    private static final String COPIAR_EVENTOS =
+            "INSERT INTO evento_view (id, nombre, fecha_inicio, fecha_fin, estado, categoria, version, actualizado_en,"
+                    + " venue_id, venue_nombre, venue_version, venue_actualizado_en)"
+                    + " SELECT e.id, e.nombre, e.fecha_inicio, e.fecha_fin, e.estado, e.categoria, e.version, e.actualizado_en,"
+                    + " v.id, v.nombre, v.version, v.actualizado_en"
+                    + " FROM evento e JOIN venue v ON v.id = e.venue_id";
+
+    private static final String ACTUALIZAR_COPIA =
+            " ON DUPLICATE KEY UPDATE evento_view.nombre = VALUES(nombre), evento_view.fecha_inicio = VALUES(fecha_inicio),"
+                    + " evento_view.fecha_fin = VALUES(fecha_fin), evento_view.estado = VALUES(estado), evento_view.categoria = VALUES(categoria),"
+                    + " evento_view.version = VALUES(version), evento_view.actualizado_en = VALUES(actualizado_en),"
+                    + " evento_view.venue_id = VALUES(venue_id), evento_view.venue_nombre = VALUES(venue_nombre),"
+                    + " evento_view.venue_version = VALUES(venue_version), evento_view.venue_actualizado_en = VALUES(venue_actualizado_en)";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public JdbcEventoView(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    /**
+     * Copia los eventos indicados tal como están ahora en evento (altas, cambios y transiciones).
+     */
+    public void refrescar(Collection<Long> eventoIds) {
+        if (eventoIds.isEmpty()) return;
+        String marcadores = String.join(", ", Collections.nCopies(eventoIds.size(), "?"));
+        jdbcTemplate.update(COPIAR_EVENTOS + " WHERE e.id IN (" + marcadores + ")" + ACTUALIZAR_COPIA,
+                eventoIds.toArray());
+    }
+
+    /**
+     * Propaga un cambio de venue a todas las filas de sus eventos (por idx_evento_view_venue_inicio).
+     * Se copian también version y actualizado_en del venue: forman parte del ETag del evento.
+     */
+    public void refrescarVenue(Long venueId) {
+        jdbcTemplate.update("UPDATE evento_view ev JOIN venue v ON v.id = ev.venue_id"
+                + " SET ev.venue_nombre = v.nombre, ev.venue_version = v.version,"
+                + " ev.venue_actualizado_en = v.actualizado_en"
+                + " WHERE ev.venue_id = ?", venueId);
+    }
+
+    /**
+     * Vuelve a copiar todos los eventos: para filas de evento escritas fuera de la aplicación
+     * (cargas por SQL, datos de prueba). No borra filas: de eso se encarga la FK.
+     */
+    public int reconstruir() {
+        return jdbcTemplate.update(COPIAR_EVENTOS + ACTUALIZAR_COPIA);
+    }
+}
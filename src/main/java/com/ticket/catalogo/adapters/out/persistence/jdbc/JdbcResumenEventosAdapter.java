@@ -0,0 +1,192 @@
+package com.ticket.catalogo.adapters.out.persistence.jdbc;
+
+import com.ticket.catalogo.application.port.out.ClaveResumen;
+import com.ticket.catalogo.application.port.out.ConteoResumen;
+import com.ticket.catalogo.application.port.out.ResumenEventosPort;
+import io.micrometer.core.annotation.Timed;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.TreeMap;
+
+/**
+ * evento_resumen con JdbcTemplate, en la transacción JPA en curso (mismo DataSource).
+ * - Cada clave se reparte en FRANJAS filas según el id del evento: altas concurrentes en el
+ *   mismo estado o venue bloquean filas distintas. Los conteos se leen sumando las franjas.
+ * - Los deltas de una operación se agrupan y se escriben en un solo INSERT ... ON DUPLICATE KEY
+ *   UPDATE, en orden de clave primaria: dos transacciones bloquean sus filas en el mismo orden.
+ */
+@Repository
+@Timed("catalogo.repositorio")
+public class JdbcResumenEventosAdapter implements ResumenEventosPort {
+
+    static final int FRANJAS = 8;
+
+    private static final String SUMAS = "SELECT dimension, clave, SUM(total) AS total FROM evento_resumen";
+    private static final String AGRUPAR_SUMAS = " GROUP BY dimension, clave HAVING SUM(total) <> 0";
+
+    private static final RowMapper<ConteoResumen> CONTEO = (rs, n) -> new ConteoResumen(
+            ConteoResumen.Dimension.valueOf(rs.getString("dimension")),
+            rs.getString("clave"),
+            rs.getLong("total"));
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public JdbcResumenEventosAdapter(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @Override
+    public Map<Long, ClaveResumen> bloquear(Collection<Long> eventoIds) {
+        Map<Long, ClaveResumen> claves = new LinkedHashMap<>();
+        if (eventoIds.isEmpty()) return claves;
+        String marcadores = String.join(", ", Collections.nCopies(eventoIds.size(), "?"));
+        jdbcTemplate.query("SELECT id, estado, venue_id, fecha_inicio FROM evento"
+                + " WHERE id IN (" + marcadores + ") FOR UPDATE", rs -> {
+            LocalDateTime inicio = rs.getObject("fecha_inicio", LocalDateTime.class);
+            claves.put(rs.getLong("id"), new ClaveResumen(
+                    rs.getString("estado"),
+                    rs.getObject("venue_id", Long.class),
+                    inicio == null ? null : inicio.toLocalDate()));
+        }, eventoIds.toArray());
+        return claves;
+    }
+
+    @Override
+    public void mover(Map<Long, ClaveResumen> antes, Map<Long, ClaveResumen> despues) {
+        Map<Fila, Long> deltas = new TreeMap<>();
+        antes.forEach((id, clave) -> {
+            if (!clave.equals(despues.get(id))) acumular(deltas, id, clave, -1);
+        });
+        despues.forEach((id, clave) -> {
+            if (!clave.equals(antes.get(id))) acumular(deltas, id, clave, 1);
+        });
+        escribir(deltas);
+    }
+
+    @Override
+    public void restarEventosDelVenue(Long venueId) {
+        jdbcTemplate.update("INSERT INTO evento_resumen (dimension, clave, franja, total)"
+                + " SELECT dimension, clave, franja, -COUNT(*) FROM ("
+                + " SELECT 'TOTAL' AS dimension, '' AS clave, id % " + FRANJAS + " AS franja"
+                + " FROM evento WHERE venue_id = ?"
+                + " UNION ALL SELECT 'ESTADO', estado, id % " + FRANJAS
+                + " FROM evento WHERE venue_id = ? AND estado IS NOT NULL"
+                + " UNION ALL SELECT 'VENUE', CAST(venue_id AS CHAR), id % " + FRANJAS
+                + " FROM evento WHERE venue_id = ?"
+                + " UNION ALL SELECT 'DIA', DATE_FORMAT(fecha_inicio, '%Y-%m-%d'), id % " + FRANJAS
+                + " FROM evento WHERE venue_id = ? AND fecha_inicio IS NOT NULL"
+                + ") e GROUP BY dimension, clave, franja"
+                + " ON DUPLICATE KEY UPDATE total = total + VALUES(total)",
+                venueId, venueId, venueId, venueId);
+    }
+
+    @Override
+    public List<ConteoResumen> leer(LocalDate diaDesde, LocalDate diaHasta) {
+        // Las claves de DIA (yyyy-MM-dd) ordenan igual como texto que como fecha
+        return jdbcTemplate.query(SUMAS
+                        + " WHERE dimension IN ('TOTAL', 'ESTADO', 'VENUE')"
+                        + " OR (dimension = 'DIA' AND clave >= ? AND clave < ?)" + AGRUPAR_SUMAS,
+                CONTEO, diaDesde.toString(), diaHasta.toString());
+    }
+
+    @Override
+    public List<ConteoResumen> leerTodo() {
+        return jdbcTemplate.query(SUMAS + AGRUPAR_SUMAS, CONTEO);
+    }
+
+    @Override
+    public List<ConteoResumen> contarEventos() {
+        return jdbcTemplate.query("SELECT 'TOTAL' AS dimension, '' AS clave, COUNT(*) AS total FROM evento"
+                + " UNION ALL SELECT 'ESTADO', estado, COUNT(*) FROM evento"
+                + " WHERE estado IS NOT NULL GROUP BY estado"
+                + " UNION ALL SELECT 'VENUE', CAST(venue_id AS CHAR), COUNT(*) FROM evento GROUP BY venue_id"
+                + " UNION ALL SELECT 'DIA', DATE_FORMAT(fecha_inicio, '%Y-%m-%d'), COUNT(*) FROM evento"
+                + " WHERE fecha_inicio IS NOT NULL GROUP BY DATE_FORMAT(fecha_inicio, '%Y-%m-%d')", CONTEO);
+    }
+
+    @Override
+    public void corregir(Collection<ConteoResumen> deltas) {
+        Map<Fila, Long> filas = new TreeMap<>();
+        for (ConteoResumen delta : deltas) {
+            filas.merge(new Fila(delta.getDimension().name(), delta.getClave(), 0), delta.getTotal(), Long::sum);
+        }
+        escribir(filas);
+    }
+
+    private static void acumular(Map<Fila, Long> deltas, Long eventoId, ClaveResumen clave, int signo) {
+        int franja = (int) (eventoId % FRANJAS);
+        long delta = signo;
+        deltas.merge(new Fila(ConteoResumen.Dimension.TOTAL.name(), "", franja), delta, Long::sum);
+        if (clave.getEstado() != null) {
+            deltas.merge(new Fila(ConteoResumen.Dimension.ESTADO.name(), clave.getEstado(), franja), delta, Long::sum);
+        }
+        if (clave.getVenueId() != null) {
+            deltas.merge(new Fila(ConteoResumen.Dimension.VENUE.name(), clave.getVenueId().toString(), franja),
+                    delta, Long::sum);
+        }
+        if (clave.getDia() != null) {
+            deltas.merge(new Fila(ConteoResumen.Dimension.DIA.name(), clave.getDia().toString(), franja),
+                    delta, Long::sum);
+        }
+    }
+
+    private void escribir(Map<Fila, Long> deltas) {
+        deltas.values().removeIf(delta -> delta == 0);
+        if (deltas.isEmpty()) return;
+        List<Object> argumentos = new ArrayList<>(deltas.size() * 4);
+        deltas.forEach((fila, delta) -> {
+            argumentos.add(fila.dimension);
+            argumentos.add(fila.clave);
+            argumentos.add(fila.franja);
+            argumentos.add(delta);
+        });
+        jdbcTemplate.update("INSERT INTO evento_resumen (dimension, clave, franja, total) VALUES "
+                        + String.join(", ", Collections.nCopies(deltas.size(), "(?, ?, ?, ?)"))
+                        + " ON DUPLICATE KEY UPDATE total = total + VALUES(total)",
+                argumentos.toArray());
+    }
+
+    // Clave primaria de evento_resumen; ordena como el índice
+    private static final class Fila implements Comparable<Fila> {
+        private static final Comparator<Fila> ORDEN = Comparator.<Fila, String>comparing(f -> f.dimension)
+                .thenComparing(f -> f.clave)
+                .thenComparingInt(f -> f.franja);
+
+        final String dimension;
+        final String clave;
+        final int franja;
+
+        Fila(String dimension, String clave, int franja) {
+            this.dimension = dimension;
+            this.clave = clave;
+            this.franja = franja;
+        }
+
+        @Override
+        public int compareTo(Fila otra) {
+            return ORDEN.compare(this, otra);
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            return o instanceof Fila otra && compareTo(otra) == 0;
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(dimension, clave, franja);
+        }
+    }
+}
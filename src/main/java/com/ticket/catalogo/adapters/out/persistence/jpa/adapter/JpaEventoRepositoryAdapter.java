@@ -1,42 +1,171 @@
 package com.ticket.catalogo.adapters.out.persistence.jpa.adapter;
 
+import com.ticket.catalogo.adapters.out.persistence.jdbc.JdbcEventoView;
 import com.ticket.catalogo.adapters.out.persistence.jpa.entity.JpaEventoEntity;
+import com.ticket.catalogo.adapters.out.persistence.jpa.entity.JpaEventoViewEntity;
+import com.ticket.catalogo.adapters.out.persistence.jpa.entity.JpaVenueEntity;
 import com.ticket.catalogo.adapters.out.persistence.jpa.mapper.JpaVenueMapper;
+import com.ticket.catalogo.adapters.out.persistence.jpa.projection.EventoViewFila;
 import com.ticket.catalogo.adapters.out.persistence.jpa.repository.SpringDataEventoRepository;
+import com.ticket.catalogo.adapters.out.persistence.jpa.repository.SpringDataEventoViewRepository;
 
+import com.ticket.catalogo.adapters.out.persistence.spec.EventoSpecifications;
+import com.ticket.catalogo.application.DTO.EventoDto;
+import com.ticket.catalogo.application.DTO.FacetasEventoDto;
+import com.ticket.catalogo.application.port.out.EventoCursor;
 import com.ticket.catalogo.application.port.out.EventoRespositoryPort;
 import com.ticket.catalogo.application.port.out.EventoSearchCriteria;
+import com.ticket.catalogo.application.port.out.MarcaVersion;
 import com.ticket.catalogo.domain.model.Evento;
 import com.ticket.catalogo.domain.model.Venue;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.Query;
+import jakarta.persistence.TypedQuery;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.CriteriaUpdate;
+import jakarta.persistence.criteria.ParameterExpression;
+import jakarta.persistence.criteria.Path;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import jakarta.persistence.criteria.Selection;
+import io.micrometer.core.annotation.Timed;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.data.domain.Sort;
 import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.jpa.repository.query.QueryUtils;
+import org.springframework.data.support.PageableExecutionUtils;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.support.GeneratedKeyHolder;
+import org.springframework.jdbc.support.KeyHolder;
 import org.springframework.stereotype.Repository;
+import org.springframework.util.StringUtils;
 
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Types;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.TreeMap;
+import java.util.function.BiFunction;
+import java.util.function.Consumer;
+import java.util.function.Function;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
+/**
+ * Escrituras sobre evento; lecturas de búsqueda y por id sobre el modelo de lectura evento_view,
+ * que cada escritura refresca con JdbcEventoView en la misma transacción.
+ */
 @Repository
+@Timed("catalogo.repositorio.jpa")
 public class JpaEventoRepositoryAdapter implements EventoRespositoryPort {
 
+    private static final Sort ORDEN_KEYSET = Sort.by(Sort.Direction.ASC, "fechaInicio", "id");
+
+    // Entidades gestionadas que se acumulan antes de vaciar el contexto de persistencia al exportar
+    private static final int FILAS_POR_LIMPIEZA = 500;
+
+    private static final String INSERT_EVENTO =
+            "INSERT INTO evento (nombre, fecha_inicio, fecha_fin, estado, categoria, venue_id) VALUES (?, ?, ?, ?, ?, ?)";
+
     private final SpringDataEventoRepository repo;
+    private final SpringDataEventoViewRepository viewRepo;
+    private final JdbcEventoView view;
+    private final JdbcTemplate jdbcTemplate;
+    private final EntityManager entityManager;
     private final JpaVenueMapper venueMapper = new JpaVenueMapper();
 
-    public JpaEventoRepositoryAdapter(SpringDataEventoRepository repo) {
+    public JpaEventoRepositoryAdapter(SpringDataEventoRepository repo, SpringDataEventoViewRepository viewRepo,
+                                      JdbcEventoView view, JdbcTemplate jdbcTemplate, EntityManager entityManager) {
         this.repo = repo;
+        this.viewRepo = viewRepo;
+        this.view = view;
+        this.jdbcTemplate = jdbcTemplate;
+        this.entityManager = entityManager;
     }
 
+    // Con IDENTITY el INSERT sale en el save: la copia a evento_view ya encuentra la fila
     @Override
     public Evento save(Evento evento) {
         JpaEventoEntity entity = toEntity(evento);
         JpaEventoEntity saved = repo.save(entity);
+        view.refrescar(List.of(saved.getId()));
         return toDomain(saved);
     }
 
+    /**
+     * INSERT por lotes con JDBC: con IDENTITY Hibernate no agrupa inserts, y con
+     * rewriteBatchedStatements=true el driver envía cada lote como un INSERT multi-fila.
+     * Los ids generados se leen del mismo lote. Participa de la transacción JPA en curso.
+     */
+    @Override
+    public List<Evento> insertAll(List<Evento> eventos) {
+        if (eventos.isEmpty()) return eventos;
+
+        KeyHolder keyHolder = new GeneratedKeyHolder();
+        jdbcTemplate.batchUpdate(
+                con -> con.prepareStatement(INSERT_EVENTO, Statement.RETURN_GENERATED_KEYS),
+                new BatchPreparedStatementSetter() {
+                    @Override
+                    public void setValues(PreparedStatement ps, int i) throws SQLException {
+                        Evento e = eventos.get(i);
+                        ps.setString(1, e.getNombre());
+                        ps.setObject(2, e.getFechaInicio(), Types.TIMESTAMP);
+                        ps.setObject(3, e.getFechaFin(), Types.TIMESTAMP);
+                        ps.setString(4, e.getEstado());
+                        ps.setString(5, e.getCategoria());
+                        ps.setLong(6, e.getVenue().getId());
+                    }
+
+                    @Override
+                    public int getBatchSize() {
+                        return eventos.size();
+                    }
+                },
+                keyHolder);
+
+        List<Map<String, Object>> keys = keyHolder.getKeyList();
+        if (keys.size() != eventos.size()) {
+            throw new IllegalStateException("Se esperaban " + eventos.size() + " ids generados y se recibieron " + keys.size());
+        }
+        List<Long> ids = new ArrayList<>(eventos.size());
+        for (int i = 0; i < eventos.size(); i++) {
+            eventos.get(i).setId(((Number) keys.get(i).values().iterator().next()).longValue());
+            eventos.get(i).setVersion(0L);
+            ids.add(eventos.get(i).getId());
+        }
+        view.refrescar(ids);
+        return eventos;
+    }
+
     @Override
     public Optional<Evento> findById(Long id) {
-        return repo.findById(id).map(this::toDomain);
+        return viewRepo.findFilaById(id).map(this::toDomain);
+    }
+
+    @Override
+    public List<Evento> findAllById(Collection<Long> ids) {
+        if (ids.isEmpty()) return List.of();
+        Map<Long, EventoViewFila> porId = viewRepo.findFilasByIdIn(ids).stream()
+                .collect(Collectors.toMap(EventoViewFila::getId, Function.identity()));
+        return ids.stream()
+                .map(porId::get)
+                .filter(Objects::nonNull)
+                .map(this::toDomain)
+                .collect(Collectors.toList());
     }
 
     @Override
@@ -44,29 +173,287 @@ public class JpaEventoRepositoryAdapter implements EventoRespositoryPort {
         return repo.findAll().stream().map(this::toDomain).collect(Collectors.toList());
     }
 
+    /**
+     * Cada fila se mapea y se entrega al consumidor; cada FILAS_POR_LIMPIEZA filas se vacía
+     * el contexto de persistencia para que las entidades ya escritas se puedan recolectar.
+     */
+    @Override
+    public void forEach(Consumer<Evento> accion) {
+        try (Stream<JpaEventoEntity> filas = repo.streamAllConVenue()) {
+            int[] leidas = {0};
+            filas.forEach(e -> {
+                accion.accept(toDomain(e));
+                if (++leidas[0] % FILAS_POR_LIMPIEZA == 0) {
+                    entityManager.clear();
+                }
+            });
+        }
+    }
+
     @Override
     public List<Evento> findByVenueId(Long venueId) {
         return repo.findByVenueId(venueId).stream().map(this::toDomain).collect(Collectors.toList());
     }
 
+    /**
+     * UPDATE evento SET ..., version = version + 1 WHERE id = ? [AND version = ?]: sin leer antes
+     * la fila. Si llega una sola fecha, la otra es la guardada y el orden se exige en el mismo WHERE.
+     */
+    @Override
+    public boolean actualizarParcial(Long id, Long version, Evento cambios) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaUpdate<JpaEventoEntity> update = cb.createCriteriaUpdate(JpaEventoEntity.class);
+        Root<JpaEventoEntity> root = update.from(JpaEventoEntity.class);
+        Path<LocalDateTime> fechaInicio = root.get("fechaInicio");
+        Path<LocalDateTime> fechaFin = root.get("fechaFin");
+        LocalDateTime nuevoInicio = cambios.getFechaInicio();
+        LocalDateTime nuevoFin = cambios.getFechaFin();
+
+        if (StringUtils.hasText(cambios.getNombre())) {
+            update.set(root.<String>get("nombre"), cambios.getNombre());
+        }
+        if (nuevoInicio != null) {
+            update.set(fechaInicio, nuevoInicio);
+        }
+        if (nuevoFin != null) {
+            update.set(fechaFin, nuevoFin);
+        }
+        if (StringUtils.hasText(cambios.getEstado())) {
+            update.set(root.<String>get("estado"), cambios.getEstado());
+        }
+        if (StringUtils.hasText(cambios.getCategoria())) {
+            update.set(root.<String>get("categoria"), cambios.getCategoria());
+        }
+        if (cambios.getVenue() != null && cambios.getVenue().getId() != null) {
+            update.set(root.<JpaVenueEntity>get("venue"),
+                    entityManager.getReference(JpaVenueEntity.class, cambios.getVenue().getId()));
+        }
+        update.set(root.<Long>get("version"), cb.sum(root.<Long>get("version"), 1L));
+
+        List<Predicate> where = new ArrayList<>();
+        where.add(cb.equal(root.get("id"), id));
+        if (version != null) {
+            where.add(cb.equal(root.get("version"), version));
+        }
+        ParameterExpression<LocalDateTime> nuevaFecha = cb.parameter(LocalDateTime.class);
+        boolean unaSolaFecha = (nuevoInicio == null) != (nuevoFin == null);
+        if (unaSolaFecha) {
+            where.add(nuevoInicio != null
+                    ? cb.or(cb.isNull(fechaFin), cb.lessThanOrEqualTo(nuevaFecha, fechaFin))
+                    : cb.or(cb.isNull(fechaInicio), cb.lessThanOrEqualTo(fechaInicio, nuevaFecha)));
+        }
+        update.where(where.toArray(new Predicate[0]));
+
+        Query query = entityManager.createQuery(update);
+        if (unaSolaFecha) {
+            query.setParameter(nuevaFecha, nuevoInicio != null ? nuevoInicio : nuevoFin);
+        }
+        boolean actualizado = query.executeUpdate() == 1;
+        if (actualizado) {
+            view.refrescar(List.of(id));
+        }
+        return actualizado;
+    }
+
+    @Override
+    public Optional<Long> findVersionById(Long id) {
+        return repo.findVersionById(id);
+    }
+
+    @Override
+    public Optional<MarcaVersion> findMarcaById(Long id) {
+        return viewRepo.findMarcaById(id).map(m -> MarcaVersion.deEvento(
+                m.getVersion(), m.getVersionVenue(), m.getActualizadoEn(), m.getVenueActualizadoEn()));
+    }
+
+    // La fila de evento_view la borra la FK (ON DELETE CASCADE)
     @Override
-    public void deleteById(Long id) {
-        repo.deleteById(id);
+    public boolean deleteById(Long id) {
+        return repo.eliminarPorId(id) == 1;
+    }
+
+    /**
+     * SELECT id ... ORDER BY id LIMIT limite con la misma Specification que search:
+     * solo la columna id, sin entidades.
+     */
+    @Override
+    public List<Long> findIdsParaTransicion(EventoSearchCriteria criteria, String estadoDestino, long despuesDe, int limite) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Long> query = cb.createQuery(Long.class);
+        Root<JpaEventoEntity> root = query.from(JpaEventoEntity.class);
+        Path<Long> id = root.get("id");
+        query.select(id)
+                .where(cb.and(
+                        EventoSpecifications.<JpaEventoEntity>fromCriteria(criteria).toPredicate(root, query, cb),
+                        cb.notEqual(root.get("estado"), estadoDestino),
+                        cb.greaterThan(id, despuesDe)))
+                .orderBy(cb.asc(id));
+        return entityManager.createQuery(query).setMaxResults(limite).getResultList();
+    }
+
+    /**
+     * UPDATE evento SET estado = ?, version = version + 1 WHERE id IN (...) AND criterios AND estado <> ?:
+     * bloquea como mucho las filas del lote y solo hasta el commit de su transacción.
+     */
+    @Override
+    public int cambiarEstado(Collection<Long> ids, EventoSearchCriteria criteria, String estadoDestino) {
+        if (ids.isEmpty()) return 0;
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaUpdate<JpaEventoEntity> update = cb.createCriteriaUpdate(JpaEventoEntity.class);
+        Root<JpaEventoEntity> root = update.from(JpaEventoEntity.class);
+        update.set(root.<String>get("estado"), estadoDestino);
+        update.set(root.<Long>get("version"), cb.sum(root.<Long>get("version"), 1L));
+        update.where(
+                root.get("id").in(ids),
+                EventoSpecifications.<JpaEventoEntity>fromCriteria(criteria).toPredicate(root, null, cb),
+                cb.notEqual(root.get("estado"), estadoDestino));
+        int filas = entityManager.createQuery(update).executeUpdate();
+        if (filas > 0) {
+            view.refrescar(ids);
+        }
+        return filas;
     }
 
     @Override
     public Page<Evento> search(EventoSearchCriteria criteria, Pageable pageable) {
-        Specification<JpaEventoEntity> spec =
-                com.ticket.catalogo.adapters.out.persistence.spec.EventoSpecifications.fromCriteria(criteria);
+        return buscarEnView(EventoViewFila.class, this::fila, criteria, pageable).map(this::toDomain);
+    }
+
+    /**
+     * SELECT new EventoDto(...) sobre evento_view: una sola tabla (el nombre del venue está en la
+     * fila), sin entidades ni copia intermedia a dominio. Aplica la misma Specification que search
+     * (incluido el orden por relevancia si se filtra por nombre y la página no trae sort).
+     */
+    @Override
+    public Page<EventoDto> searchDto(EventoSearchCriteria criteria, Pageable pageable) {
+        return buscarEnView(EventoDto.class, (cb, root) -> cb.construct(EventoDto.class,
+                root.get("id"),
+                root.get("nombre"),
+                root.get("fechaInicio"),
+                root.get("fechaFin"),
+                root.get("estado"),
+                root.get("categoria"),
+                root.get("venue").get("id"),
+                root.get("venue").get("nombre"),
+                root.get("version")), criteria, pageable);
+    }
+
+    private <R> Page<R> buscarEnView(Class<R> tipo,
+                                     BiFunction<CriteriaBuilder, Root<JpaEventoViewEntity>, Selection<R>> seleccion,
+                                     EventoSearchCriteria criteria, Pageable pageable) {
+        Specification<JpaEventoViewEntity> spec = EventoSpecifications.fromCriteria(criteria);
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+
+        CriteriaQuery<R> query = cb.createQuery(tipo);
+        Root<JpaEventoViewEntity> root = query.from(JpaEventoViewEntity.class);
+        query.select(seleccion.apply(cb, root));
+        Predicate where = spec.toPredicate(root, query, cb);
+        if (where != null) {
+            query.where(where);
+        }
+        if (pageable.getSort().isSorted()) {
+            query.orderBy(QueryUtils.toOrders(pageable.getSort(), root, cb));
+        }
+
+        TypedQuery<R> typed = entityManager.createQuery(query);
+        if (pageable.isPaged()) {
+            typed.setFirstResult((int) pageable.getOffset());
+            typed.setMaxResults(pageable.getPageSize());
+        }
+        // COUNT solo si la página llena no permite deducir el total
+        return PageableExecutionUtils.getPage(typed.getResultList(), pageable, () -> contar(spec));
+    }
 
-        Page<JpaEventoEntity> pageEntities = repo.findAll(spec, pageable);
+    /**
+     * SELECT estado, categoria, venue_id, COUNT(*) FROM evento_view ... GROUP BY estado, categoria, venue_id
+     * con la misma Specification que searchDto: una sola pasada sobre las filas que cumplen los filtros;
+     * cada faceta se obtiene sumando las combinaciones en memoria.
+     */
+    @Override
+    public FacetasEventoDto contarFacetas(EventoSearchCriteria criteria) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Object[]> query = cb.createQuery(Object[].class);
+        Root<JpaEventoViewEntity> root = query.from(JpaEventoViewEntity.class);
+        Path<String> estado = root.get("estado");
+        Path<String> categoria = root.get("categoria");
+        Path<Long> venueId = root.get("venue").get("id");
+        query.select(cb.array(estado, categoria, venueId, cb.count(root)))
+                .groupBy(estado, categoria, venueId);
+        // Sin query: el orden por relevancia del filtro por nombre no aplica a un GROUP BY
+        Predicate where = EventoSpecifications.<JpaEventoViewEntity>fromCriteria(criteria).toPredicate(root, null, cb);
+        if (where != null) {
+            query.where(where);
+        }
+
+        Map<String, Long> porEstado = new TreeMap<>();
+        Map<String, Long> porCategoria = new TreeMap<>();
+        Map<Long, Long> porVenue = new TreeMap<>();
+        for (Object[] fila : entityManager.createQuery(query).getResultList()) {
+            long total = (Long) fila[3];
+            if (fila[0] != null) porEstado.merge((String) fila[0], total, Long::sum);
+            if (fila[1] != null) porCategoria.merge((String) fila[1], total, Long::sum);
+            if (fila[2] != null) porVenue.merge((Long) fila[2], total, Long::sum);
+        }
+        return new FacetasEventoDto(porEstado, porCategoria, porVenue);
+    }
+
+    private long contar(Specification<JpaEventoViewEntity> spec) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Long> query = cb.createQuery(Long.class);
+        Root<JpaEventoViewEntity> root = query.from(JpaEventoViewEntity.class);
+        query.select(cb.count(root));
+        Predicate where = spec.toPredicate(root, query, cb);
+        if (where != null) {
+            query.where(where);
+        }
+        return entityManager.createQuery(query).getSingleResult();
+    }
+
+    /**
+     * Keyset por (fecha_inicio, id) sobre evento_view. Pide size + 1 filas para saber si hay más:
+     * sin OFFSET ni COUNT. El orden se fija después de la Specification y reemplaza al de relevancia.
+     */
+    @Override
+    public Slice<Evento> searchAfter(EventoSearchCriteria criteria, EventoCursor cursor, int size) {
+        Specification<JpaEventoViewEntity> spec = EventoSpecifications.<JpaEventoViewEntity>fromCriteria(criteria)
+                .and(EventoSpecifications.despuesDe(cursor));
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
 
-        return pageEntities.map(this::toDomain);
+        CriteriaQuery<EventoViewFila> query = cb.createQuery(EventoViewFila.class);
+        Root<JpaEventoViewEntity> root = query.from(JpaEventoViewEntity.class);
+        query.select(fila(cb, root));
+        Predicate where = spec.toPredicate(root, query, cb);
+        if (where != null) {
+            query.where(where);
+        }
+        query.orderBy(QueryUtils.toOrders(ORDEN_KEYSET, root, cb));
+
+        List<Evento> filas = entityManager.createQuery(query).setMaxResults(size + 1).getResultList().stream()
+                .map(this::toDomain)
+                .collect(Collectors.toList());
+        boolean hayMas = filas.size() > size;
+        return new SliceImpl<>(hayMas ? filas.subList(0, size) : filas, PageRequest.of(0, size, ORDEN_KEYSET), hayMas);
     }
 
+    private Selection<EventoViewFila> fila(CriteriaBuilder cb, Root<JpaEventoViewEntity> root) {
+        Path<Object> venue = root.get("venue");
+        return cb.construct(EventoViewFila.class,
+                root.get("id"),
+                root.get("nombre"),
+                root.get("fechaInicio"),
+                root.get("fechaFin"),
+                root.get("estado"),
+                root.get("categoria"),
+                root.get("version"),
+                root.get("actualizadoEn"),
+                venue.get("id"),
+                venue.get("nombre"),
+                venue.get("version"),
+                venue.get("actualizadoEn"));
+    }
 
-    /* Mapeos simples */
-    private Evento toDomain(JpaEventoEntity e) {
+    /* Mapeos simples (package-private: los mide MapeoBenchmark en src/jmh) */
+    Evento toDomain(JpaEventoEntity e) {
         Venue v = e.getVenue() == null ? null : venueMapper.toDomain(e.getVenue());
         Evento d = new Evento();
         d.setId(e.getId());
@@ -74,17 +461,42 @@ public class JpaEventoRepositoryAdapter implements EventoRespositoryPort {
         d.setFechaInicio(e.getFechaInicio());
         d.setFechaFin(e.getFechaFin());
         d.setEstado(e.getEstado());
+        d.setCategoria(e.getCategoria());
+        d.setVersion(e.getVersion());
+        d.setActualizadoEn(e.getActualizadoEn());
+        d.setVenue(v);
+        return d;
+    }
+
+    // El venue de evento_view solo trae id, nombre, version y actualizadoEn
+    Evento toDomain(EventoViewFila f) {
+        Venue v = new Venue();
+        v.setId(f.getVenueId());
+        v.setNombre(f.getVenueNombre());
+        v.setVersion(f.getVenueVersion());
+        v.setActualizadoEn(f.getVenueActualizadoEn());
+        Evento d = new Evento();
+        d.setId(f.getId());
+        d.setNombre(f.getNombre());
+        d.setFechaInicio(f.getFechaInicio());
+        d.setFechaFin(f.getFechaFin());
+        d.setEstado(f.getEstado());
+        d.setCategoria(f.getCategoria());
+        d.setVersion(f.getVersion());
+        d.setActualizadoEn(f.getActualizadoEn());
         d.setVenue(v);
         return d;
     }
 
-    private JpaEventoEntity toEntity(Evento d) {
+    JpaEventoEntity toEntity(Evento d) {
         JpaEventoEntity e = new JpaEventoEntity();
         e.setId(d.getId());
         e.setNombre(d.getNombre());
         e.setFechaInicio(d.getFechaInicio());
         e.setFechaFin(d.getFechaFin());
         e.setEstado(d.getEstado());
+        e.setCategoria(d.getCategoria());
+        e.setVersion(d.getVersion());
         e.setVenue(d.getVenue() == null ? null : venueMapper.toEntity(d.getVenue()));
         return e;
     }
@@ -1,29 +1,56 @@
 package com.ticket.catalogo.adapters.out.persistence.jpa.adapter;
 
+import com.ticket.catalogo.adapters.out.persistence.jdbc.JdbcEventoView;
 import com.ticket.catalogo.adapters.out.persistence.jpa.entity.JpaVenueEntity;
+import com.ticket.catalogo.adapters.out.persistence.jpa.function.BusquedaTexto;
 import com.ticket.catalogo.adapters.out.persistence.jpa.mapper.JpaVenueMapper;
+import com.ticket.catalogo.adapters.out.persistence.jpa.projection.VenueResumen;
 import com.ticket.catalogo.adapters.out.persistence.jpa.repository.SpringDataVenueRepository;
+import com.ticket.catalogo.application.port.out.MarcaVersion;
 import com.ticket.catalogo.application.port.out.VenueRepositoryPort;
 import com.ticket.catalogo.domain.model.Venue;
+import io.micrometer.core.annotation.Timed;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaUpdate;
+import jakarta.persistence.criteria.Root;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Repository;
+import org.springframework.util.StringUtils;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 @Repository
+@Timed("catalogo.repositorio.jpa")
 public class JpaVenueRepositoryAdapter implements VenueRepositoryPort {
 
     private final SpringDataVenueRepository repo;
+    private final JdbcEventoView eventoView;
+    private final EntityManager entityManager;
 
-    public JpaVenueRepositoryAdapter(SpringDataVenueRepository repo) {
+    public JpaVenueRepositoryAdapter(SpringDataVenueRepository repo, JdbcEventoView eventoView,
+                                     EntityManager entityManager) {
         this.repo = repo;
+        this.eventoView = eventoView;
+        this.entityManager = entityManager;
     }
 
     @Override
     public Venue save(Venue venue) {
         JpaVenueEntity entity = JpaVenueMapper.toEntity(venue);
         JpaVenueEntity saved = repo.save(entity);
+        if (venue.getId() != null) {
+            // Un venue nuevo no tiene eventos en evento_view; uno existente sí
+            repo.flush();
+            eventoView.refrescarVenue(saved.getId());
+        }
         return JpaVenueMapper.toDomain(saved);
     }
 
@@ -32,6 +59,18 @@ public class JpaVenueRepositoryAdapter implements VenueRepositoryPort {
         return repo.findById(id).map(JpaVenueMapper::toDomain);
     }
 
+    @Override
+    public List<Venue> findAllById(Collection<Long> ids) {
+        if (ids.isEmpty()) return List.of();
+        Map<Long, JpaVenueEntity> porId = repo.findAllById(ids).stream()
+                .collect(Collectors.toMap(JpaVenueEntity::getId, Function.identity()));
+        return ids.stream()
+                .map(porId::get)
+                .filter(Objects::nonNull)
+                .map(JpaVenueMapper::toDomain)
+                .collect(Collectors.toList());
+    }
+
     @Override
     public List<Venue> findAll() {
         return repo.findAll().stream()
@@ -44,9 +83,81 @@ public class JpaVenueRepositoryAdapter implements VenueRepositoryPort {
         return List.of();
     }
 
+    /**
+     * UPDATE venue SET ..., version = version + 1 WHERE id = ? [AND version = ?]:
+     * sin leer antes la fila ni re-mergear una entidad armada desde el dominio.
+     * Si actualiza, copia nombre, version y actualizado_en a las filas de sus eventos en evento_view.
+     */
+    @Override
+    public boolean actualizarParcial(Long id, Long version, Venue cambios) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaUpdate<JpaVenueEntity> update = cb.createCriteriaUpdate(JpaVenueEntity.class);
+        Root<JpaVenueEntity> root = update.from(JpaVenueEntity.class);
+
+        if (StringUtils.hasText(cambios.getNombre())) {
+            update.set(root.<String>get("nombre"), cambios.getNombre());
+        }
+        if (cambios.getCapacidad() != null) {
+            update.set(root.<Integer>get("capacidad"), cambios.getCapacidad());
+        }
+        if (StringUtils.hasText(cambios.getUbicacion())) {
+            update.set(root.<String>get("ubicacion"), cambios.getUbicacion());
+        }
+        update.set(root.<Long>get("version"), cb.sum(root.<Long>get("version"), 1L));
+
+        update.where(version == null
+                ? cb.equal(root.get("id"), id)
+                : cb.and(cb.equal(root.get("id"), id), cb.equal(root.get("version"), version)));
+        boolean actualizado = entityManager.createQuery(update).executeUpdate() == 1;
+        if (actualizado) {
+            eventoView.refrescarVenue(id);
+        }
+        return actualizado;
+    }
+
+    @Override
+    public Optional<Long> findVersionById(Long id) {
+        return repo.findVersionById(id);
+    }
+
     @Override
-    public void deleteById(Long id) {
-        repo.deleteById(id);
+    public Optional<MarcaVersion> findMarcaById(Long id) {
+        return repo.findMarcaById(id).map(m -> MarcaVersion.deVenue(m.getVersion(), m.getActualizadoEn()));
+    }
+
+    // Los eventos del venue y sus filas de evento_view los borran las FK (ON DELETE CASCADE)
+    @Override
+    public boolean deleteById(Long id) {
+        return repo.eliminarPorId(id) == 1;
+    }
+
+    @Override
+    public Page<Venue> buscarPorNombre(String texto, Pageable pageable) {
+        Page<JpaVenueEntity> page = BusquedaTexto.admiteIndice(texto)
+                ? repo.buscarPorNombre(BusquedaTexto.aFrase(texto), pageable)
+                : repo.findByNombreContainingIgnoreCaseOrderById(texto.trim(), pageable);
+        return page.map(JpaVenueMapper::toDomain);
+    }
+
+    @Override
+    public Page<Venue> listar(String nombrePrefijo, String ubicacionPrefijo, Pageable pageable) {
+        return repo.listarResumen(comoPrefijo(nombrePrefijo), comoPrefijo(ubicacionPrefijo), pageable)
+                .map(JpaVenueRepositoryAdapter::toDomain);
+    }
+
+    private static Venue toDomain(VenueResumen r) {
+        Venue v = new Venue(r.getId(), r.getNombre(), r.getCapacidad(), r.getUbicacion(), null);
+        v.setVersion(r.getVersion());
+        return v;
+    }
+
+    // Patrón LIKE 'texto%' con los comodines del usuario escapados (escape '!', ver SpringDataVenueRepository)
+    private static String comoPrefijo(String texto) {
+        if (!StringUtils.hasText(texto)) return null;
+        return texto.trim()
+                .replace("!", "!!")
+                .replace("%", "!%")
+                .replace("_", "!_") + "%";
     }
 }
 
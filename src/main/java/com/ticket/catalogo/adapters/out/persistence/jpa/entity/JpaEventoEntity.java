@@ -3,6 +3,7 @@ package com.ticket.catalogo.adapters.out.persistence.jpa.entity;
 import jakarta.persistence.*;
 import lombok.*;
 
+import java.time.Instant;
 import java.time.LocalDateTime;
 
 @Entity
@@ -20,6 +21,12 @@ public class JpaEventoEntity {
     private LocalDateTime fechaInicio;
     private LocalDateTime fechaFin;
     private String estado;
+    private String categoria;
+    @Version
+    private Long version;
+    // Lo mantiene MySQL (DEFAULT/ON UPDATE CURRENT_TIMESTAMP); tras un alta queda null hasta releer
+    @Column(insertable = false, updatable = false)
+    private Instant actualizadoEn;
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "venue_id", nullable = false)
     private JpaVenueEntity venue;
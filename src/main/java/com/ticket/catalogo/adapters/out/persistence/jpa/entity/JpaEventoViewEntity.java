@@ -0,0 +1,41 @@
+package com.ticket.catalogo.adapters.out.persistence.jpa.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+import org.hibernate.annotations.Immutable;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+
+/**
+ * Fila de evento_view (modelo de lectura). La escribe JdbcEventoView; desde JPA solo se consulta,
+ * siempre con proyecciones. El venue embebido usa los mismos nombres de atributo que
+ * JpaEventoEntity.venue, así que EventoSpecifications sirve para las dos entidades.
+ */
+@Entity
+@Immutable
+@Table(name = "evento_view")
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class JpaEventoViewEntity {
+    @Id
+    private Long id;
+    private String nombre;
+    private LocalDateTime fechaInicio;
+    private LocalDateTime fechaFin;
+    private String estado;
+    private String categoria;
+    private Long version;
+    private Instant actualizadoEn;
+    @Embedded
+    @AttributeOverrides({
+            @AttributeOverride(name = "id", column = @Column(name = "venue_id")),
+            @AttributeOverride(name = "nombre", column = @Column(name = "venue_nombre")),
+            @AttributeOverride(name = "version", column = @Column(name = "venue_version")),
+            @AttributeOverride(name = "actualizadoEn", column = @Column(name = "venue_actualizado_en"))
+    })
+    private JpaVenueEmbebido venue;
+}
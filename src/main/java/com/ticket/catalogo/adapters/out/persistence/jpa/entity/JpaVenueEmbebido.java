@@ -0,0 +1,20 @@
+package com.ticket.catalogo.adapters.out.persistence.jpa.entity;
+
+import jakarta.persistence.Embeddable;
+import lombok.*;
+
+import java.time.Instant;
+
+// Campos del venue copiados en cada fila de evento_view
+@Embeddable
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class JpaVenueEmbebido {
+    private Long id;
+    private String nombre;
+    private Long version;
+    private Instant actualizadoEn;
+}
@@ -3,6 +3,7 @@ package com.ticket.catalogo.adapters.out.persistence.jpa.entity;
 import jakarta.persistence.*;
 import lombok.*;
 
+import java.time.Instant;
 import java.util.List;
 
 // infrastructure/persistence/jpa/JpaVenueEntity.java
@@ -20,7 +21,14 @@ public class JpaVenueEntity {
     private String nombre;
     private Integer capacidad;
     private String ubicacion;
-    @OneToMany(mappedBy = "venue", cascade = CascadeType.ALL, orphanRemoval = true, fetch = FetchType.LAZY)
+    @Version
+    private Long version;
+    // Lo mantiene MySQL (DEFAULT/ON UPDATE CURRENT_TIMESTAMP); tras un alta queda null hasta releer
+    @Column(insertable = false, updatable = false)
+    private Instant actualizadoEn;
+    // Sin cascade/orphanRemoval: los venues se guardan desde JpaVenueMapper.toEntity sin eventos, y un merge
+    // con la colección vacía borraba todos sus eventos. El borrado en cascada lo hace la FK (ON DELETE CASCADE).
+    @OneToMany(mappedBy = "venue", fetch = FetchType.LAZY)
     private List<JpaEventoEntity> eventos;
 }
 
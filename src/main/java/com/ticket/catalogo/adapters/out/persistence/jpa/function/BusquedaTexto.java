@@ -0,0 +1,33 @@
+package com.ticket.catalogo.adapters.out.persistence.jpa.function;
+
+/**
+ * Normaliza el texto del usuario para búsquedas FULLTEXT (parser ngram, ngram_token_size = 2).
+ * - La frase entre comillas exige que los n-gramas aparezcan contiguos, lo que equivale
+ *   a "contiene" (LIKE '%x%') pero resuelto por el índice.
+ * - Los términos más cortos que un n-grama no se pueden buscar en el índice; quien llama
+ *   debe usar LIKE en ese caso (ver admiteIndice).
+ */
+public final class BusquedaTexto {
+
+    public static final int LONGITUD_MINIMA = 2;
+
+    private BusquedaTexto() {
+        // utilitario
+    }
+
+    public static boolean admiteIndice(String texto) {
+        return texto != null && limpiar(texto).length() >= LONGITUD_MINIMA;
+    }
+
+    /**
+     * Frase para AGAINST(... IN BOOLEAN MODE). Se quitan las comillas del usuario para que
+     * no pueda cerrar la frase e inyectar operadores booleanos.
+     */
+    public static String aFrase(String texto) {
+        return "\"" + limpiar(texto) + "\"";
+    }
+
+    private static String limpiar(String texto) {
+        return texto.replace("\"", " ").trim().replaceAll("\\s+", " ");
+    }
+}
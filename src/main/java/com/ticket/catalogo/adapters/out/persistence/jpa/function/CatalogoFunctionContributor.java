@@ -0,0 +1,24 @@
+package com.ticket.catalogo.adapters.out.persistence.jpa.function;
+
+import org.hibernate.boot.model.FunctionContributions;
+import org.hibernate.boot.model.FunctionContributor;
+import org.hibernate.type.StandardBasicTypes;
+
+/**
+ * Registra funciones SQL propias de MySQL para usarlas desde JPQL y Criteria.
+ * - match_against(columna, frase): MATCH(columna) AGAINST(frase IN BOOLEAN MODE), devuelve la relevancia.
+ *   Requiere un índice FULLTEXT sobre la columna (ver V3__busqueda_texto.sql).
+ * Se carga vía META-INF/services/org.hibernate.boot.model.FunctionContributor.
+ */
+public class CatalogoFunctionContributor implements FunctionContributor {
+
+    public static final String MATCH_AGAINST = "match_against";
+
+    @Override
+    public void contributeFunctions(FunctionContributions functionContributions) {
+        functionContributions.getFunctionRegistry().registerPattern(
+                MATCH_AGAINST,
+                "match(?1) against(?2 in boolean mode)",
+                functionContributions.getTypeConfiguration().getBasicTypeRegistry().resolve(StandardBasicTypes.DOUBLE));
+    }
+}
@@ -26,6 +26,8 @@ public final class JpaVenueMapper {
         domain.setNombre(entity.getNombre());
         domain.setCapacidad(entity.getCapacidad());
         domain.setUbicacion(entity.getUbicacion());
+        domain.setVersion(entity.getVersion());
+        domain.setActualizadoEn(entity.getActualizadoEn());
 
         // NOTA: no mapeamos eventos aquí para evitar recursión y N+1.
         // Si necesitas mapear eventos, inyecta/usa un EventoMapper y descomenta:
@@ -43,6 +45,7 @@ public final class JpaVenueMapper {
         entity.setNombre(domain.getNombre());
         entity.setCapacidad(domain.getCapacidad());
         entity.setUbicacion(domain.getUbicacion());
+        entity.setVersion(domain.getVersion());
 
         // NOTA: no mapeamos eventos aquí. Si necesitas mapear eventos, usa EventoMapper:
         // entity.setEventos(domain.getEventos() == null ? null :
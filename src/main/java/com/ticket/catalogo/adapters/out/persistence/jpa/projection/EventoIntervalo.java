@@ -0,0 +1,15 @@
+package com.ticket.catalogo.adapters.out.persistence.jpa.projection;
+
+import java.time.LocalDateTime;
+
+/**
+ * Id y fechas de un evento: lo que necesita la agenda de su venue.
+ */
+public interface EventoIntervalo {
+
+    Long getId();
+
+    LocalDateTime getFechaInicio();
+
+    LocalDateTime getFechaFin();
+}
@@ -0,0 +1,18 @@
+package com.ticket.catalogo.adapters.out.persistence.jpa.projection;
+
+import java.time.Instant;
+
+/**
+ * Versiones y fechas de modificación de un evento y su venue: lo justo para un GET
+ * condicional, sin hidratar entidades.
+ */
+public interface EventoVersion {
+
+    Long getVersion();
+
+    Long getVersionVenue();
+
+    Instant getActualizadoEn();
+
+    Instant getVenueActualizadoEn();
+}
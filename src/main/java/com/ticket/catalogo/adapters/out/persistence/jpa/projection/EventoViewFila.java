@@ -0,0 +1,89 @@
+package com.ticket.catalogo.adapters.out.persistence.jpa.projection;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+
+/**
+ * Fila de evento_view leída con SELECT new: Hibernate no la gestiona, así que una lectura
+ * posterior a un refresco de la vista en la misma transacción nunca devuelve una copia vieja.
+ */
+public class EventoViewFila {
+
+    private final Long id;
+    private final String nombre;
+    private final LocalDateTime fechaInicio;
+    private final LocalDateTime fechaFin;
+    private final String estado;
+    private final String categoria;
+    private final Long version;
+    private final Instant actualizadoEn;
+    private final Long venueId;
+    private final String venueNombre;
+    private final Long venueVersion;
+    private final Instant venueActualizadoEn;
+
+    public EventoViewFila(Long id, String nombre, LocalDateTime fechaInicio, LocalDateTime fechaFin,
+                          String estado, String categoria, Long version, Instant actualizadoEn,
+                          Long venueId, String venueNombre, Long venueVersion, Instant venueActualizadoEn) {
+        this.id = id;
+        this.nombre = nombre;
+        this.fechaInicio = fechaInicio;
+        this.fechaFin = fechaFin;
+        this.estado = estado;
+        this.categoria = categoria;
+        this.version = version;
+        this.actualizadoEn = actualizadoEn;
+        this.venueId = venueId;
+        this.venueNombre = venueNombre;
+        this.venueVersion = venueVersion;
+        this.venueActualizadoEn = venueActualizadoEn;
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public String getNombre() {
+        return nombre;
+    }
+
+    public LocalDateTime getFechaInicio() {
+        return fechaInicio;
+    }
+
+    public LocalDateTime getFechaFin() {
+        return fechaFin;
+    }
+
+    public String getEstado() {
+        return estado;
+    }
+
+    public String getCategoria() {
+        return categoria;
+    }
+
+    public Long getVersion() {
+        return version;
+    }
+
+    public Instant getActualizadoEn() {
+        return actualizadoEn;
+    }
+
+    public Long getVenueId() {
+        return venueId;
+    }
+
+    public String getVenueNombre() {
+        return venueNombre;
+    }
+
+    public Long getVenueVersion() {
+        return venueVersion;
+    }
+
+    public Instant getVenueActualizadoEn() {
+        return venueActualizadoEn;
+    }
+}
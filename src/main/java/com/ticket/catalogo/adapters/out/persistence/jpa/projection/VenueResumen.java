@@ -0,0 +1,18 @@
+package com.ticket.catalogo.adapters.out.persistence.jpa.projection;
+
+/**
+ * Proyección de venue para listados: solo las columnas escalares, sin hidratar
+ * JpaVenueEntity (ni el proxy de su colección de eventos).
+ */
+public interface VenueResumen {
+
+    Long getId();
+
+    String getNombre();
+
+    Integer getCapacidad();
+
+    String getUbicacion();
+
+    Long getVersion();
+}
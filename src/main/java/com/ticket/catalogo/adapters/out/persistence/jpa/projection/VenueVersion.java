@@ -0,0 +1,13 @@
+package com.ticket.catalogo.adapters.out.persistence.jpa.projection;
+
+import java.time.Instant;
+
+/**
+ * Versión y fecha de modificación de un venue, para GET condicional.
+ */
+public interface VenueVersion {
+
+    Long getVersion();
+
+    Instant getActualizadoEn();
+}
@@ -1,14 +1,27 @@
 package com.ticket.catalogo.adapters.out.persistence.jpa.repository;
 
 import com.ticket.catalogo.adapters.out.persistence.jpa.entity.JpaEventoEntity;
+import com.ticket.catalogo.adapters.out.persistence.jpa.projection.EventoIntervalo;
+import com.ticket.catalogo.application.port.out.AgendaVenuePort;
 import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+
 import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
 
+/**
+ * Escrituras y lecturas internas sobre evento. Las búsquedas y las lecturas por id de la API
+ * van a evento_view (SpringDataEventoViewRepository).
+ */
 public interface SpringDataEventoRepository
         extends JpaRepository<JpaEventoEntity, Long>, JpaSpecificationExecutor<JpaEventoEntity> {
 
@@ -18,5 +31,34 @@ public interface SpringDataEventoRepository
     @Query("SELECT e FROM JpaEventoEntity e JOIN FETCH e.venue WHERE e.estado = :estado")
     List<JpaEventoEntity> findEventosConVenuePorEstado(@Param("estado") String estado);
 
+    // toDomain lee el venue de cada evento: sin el grafo sería una consulta extra por fila
+    @EntityGraph(attributePaths = {"venue"})
     List<JpaEventoEntity> findByVenueId(Long venueId);
+
+    // Agenda del venue: solo id y fechas de los eventos no cancelados, por el índice (venue_id, fecha_inicio)
+    @Query("SELECT e.id AS id, e.fechaInicio AS fechaInicio, e.fechaFin AS fechaFin FROM JpaEventoEntity e "
+            + "WHERE e.venue.id = :venueId AND e.fechaInicio IS NOT NULL AND e.fechaFin IS NOT NULL "
+            + "AND (e.estado IS NULL OR e.estado <> '" + AgendaVenuePort.ESTADO_CANCELADO + "')")
+    List<EventoIntervalo> findIntervalosByVenueId(@Param("venueId") Long venueId);
+
+    @Query("SELECT e.version FROM JpaEventoEntity e WHERE e.id = :id")
+    Optional<Long> findVersionById(@Param("id") Long id);
+
+    // deleteById de Spring Data hace SELECT + DELETE; este es un solo DELETE con filas afectadas
+    @Modifying
+    @Query("DELETE FROM JpaEventoEntity e WHERE e.id = :id")
+    int eliminarPorId(@Param("id") Long id);
+
+    /**
+     * Recorrido de solo avance para la exportación. Con Connector/J un fetch size de
+     * Integer.MIN_VALUE hace que el driver entregue las filas de a una en vez de cargar el
+     * resultado completo. Debe consumirse dentro de una transacción y cerrarse al terminar.
+     */
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "" + Integer.MIN_VALUE),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true"),
+            @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "false")
+    })
+    @Query("SELECT e FROM JpaEventoEntity e LEFT JOIN FETCH e.venue ORDER BY e.id")
+    Stream<JpaEventoEntity> streamAllConVenue();
 }
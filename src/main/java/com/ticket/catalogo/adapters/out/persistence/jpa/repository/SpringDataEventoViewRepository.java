@@ -0,0 +1,35 @@
+package com.ticket.catalogo.adapters.out.persistence.jpa.repository;
+
+import com.ticket.catalogo.adapters.out.persistence.jpa.entity.JpaEventoViewEntity;
+import com.ticket.catalogo.adapters.out.persistence.jpa.projection.EventoVersion;
+import com.ticket.catalogo.adapters.out.persistence.jpa.projection.EventoViewFila;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.Repository;
+import org.springframework.data.repository.query.Param;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Lecturas de evento_view por id: una consulta sobre una sola tabla, sin JOIN a venue.
+ * Todas devuelven proyecciones (evento_view solo se escribe desde JdbcEventoView).
+ */
+public interface SpringDataEventoViewRepository extends Repository<JpaEventoViewEntity, Long> {
+
+    String SELECT_FILA = "SELECT new com.ticket.catalogo.adapters.out.persistence.jpa.projection.EventoViewFila("
+            + "v.id, v.nombre, v.fechaInicio, v.fechaFin, v.estado, v.categoria, v.version, v.actualizadoEn, "
+            + "v.venue.id, v.venue.nombre, v.venue.version, v.venue.actualizadoEn) FROM JpaEventoViewEntity v ";
+
+    @Query(SELECT_FILA + "WHERE v.id = :id")
+    Optional<EventoViewFila> findFilaById(@Param("id") Long id);
+
+    @Query(SELECT_FILA + "WHERE v.id IN :ids")
+    List<EventoViewFila> findFilasByIdIn(@Param("ids") Collection<Long> ids);
+
+    // GET condicional: una lectura por PK, con las versiones del evento y de su venue en la misma fila
+    @Query("SELECT v.version AS version, v.venue.version AS versionVenue, "
+            + "v.actualizadoEn AS actualizadoEn, v.venue.actualizadoEn AS venueActualizadoEn "
+            + "FROM JpaEventoViewEntity v WHERE v.id = :id")
+    Optional<EventoVersion> findMarcaById(@Param("id") Long id);
+}
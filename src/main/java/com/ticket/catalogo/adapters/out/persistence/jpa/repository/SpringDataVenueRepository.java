@@ -1,11 +1,51 @@
 package com.ticket.catalogo.adapters.out.persistence.jpa.repository;
 
 import com.ticket.catalogo.adapters.out.persistence.jpa.entity.JpaVenueEntity;
+import com.ticket.catalogo.adapters.out.persistence.jpa.projection.VenueResumen;
+import com.ticket.catalogo.adapters.out.persistence.jpa.projection.VenueVersion;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Optional;
+
 @Repository
 public interface SpringDataVenueRepository extends JpaRepository<JpaVenueEntity, Long> {
-    // Aquí puedes agregar métodos de consulta personalizados si los necesitas, por ejemplo:
-    // List<JpaVenueEntity> findByNombreContainingIgnoreCase(String nombre);
+
+    // Búsqueda por nombre con el índice FULLTEXT (ngram); match_against lo registra CatalogoFunctionContributor
+    @Query(value = "SELECT v FROM JpaVenueEntity v WHERE match_against(v.nombre, :frase) > 0 "
+            + "ORDER BY match_against(v.nombre, :frase) DESC, v.id",
+            countQuery = "SELECT count(v) FROM JpaVenueEntity v WHERE match_against(v.nombre, :frase) > 0")
+    Page<JpaVenueEntity> buscarPorNombre(@Param("frase") String frase, Pageable pageable);
+
+    // Listado paginado con filtros opcionales por prefijo ('x%', ya escapados con '!').
+    // Selecciona solo columnas escalares: no se hidratan entidades.
+    @Query(value = "SELECT v.id AS id, v.nombre AS nombre, v.capacidad AS capacidad, v.ubicacion AS ubicacion, v.version AS version "
+            + "FROM JpaVenueEntity v "
+            + "WHERE (:nombre IS NULL OR v.nombre LIKE :nombre ESCAPE '!') "
+            + "AND (:ubicacion IS NULL OR v.ubicacion LIKE :ubicacion ESCAPE '!')",
+            countQuery = "SELECT count(v) FROM JpaVenueEntity v "
+                    + "WHERE (:nombre IS NULL OR v.nombre LIKE :nombre ESCAPE '!') "
+                    + "AND (:ubicacion IS NULL OR v.ubicacion LIKE :ubicacion ESCAPE '!')")
+    Page<VenueResumen> listarResumen(@Param("nombre") String nombrePrefijo,
+                                     @Param("ubicacion") String ubicacionPrefijo,
+                                     Pageable pageable);
+
+    @Query("SELECT v.version FROM JpaVenueEntity v WHERE v.id = :id")
+    Optional<Long> findVersionById(@Param("id") Long id);
+
+    @Query("SELECT v.version AS version, v.actualizadoEn AS actualizadoEn FROM JpaVenueEntity v WHERE v.id = :id")
+    Optional<VenueVersion> findMarcaById(@Param("id") Long id);
+
+    // Un solo DELETE (deleteById de Spring Data lee antes la fila); los eventos los borra la FK
+    @Modifying
+    @Query("DELETE FROM JpaVenueEntity v WHERE v.id = :id")
+    int eliminarPorId(@Param("id") Long id);
+
+    // Respaldo para textos más cortos que un n-grama (no usa índice)
+    Page<JpaVenueEntity> findByNombreContainingIgnoreCaseOrderById(String nombre, Pageable pageable);
 }
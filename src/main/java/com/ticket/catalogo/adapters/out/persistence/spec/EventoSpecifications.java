@@ -1,44 +1,73 @@
 package com.ticket.catalogo.adapters.out.persistence.spec;
 
-import com.ticket.catalogo.adapters.out.persistence.jpa.entity.JpaEventoEntity;
+import com.ticket.catalogo.adapters.out.persistence.jpa.function.BusquedaTexto;
+import com.ticket.catalogo.adapters.out.persistence.jpa.function.CatalogoFunctionContributor;
+import com.ticket.catalogo.application.port.out.EventoCursor;
 import com.ticket.catalogo.application.port.out.EventoSearchCriteria;
+import org.hibernate.query.criteria.HibernateCriteriaBuilder;
 import org.springframework.data.jpa.domain.Specification;
 
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Expression;
 import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
 
+/**
+ * Predicados de búsqueda de eventos. Solo usan atributos que JpaEventoEntity y JpaEventoViewEntity
+ * comparten con el mismo nombre (incluido venue.id), así que sirven para las dos entidades.
+ */
 public class EventoSpecifications {
 
-    public static Specification<JpaEventoEntity> conEstado(String estado) {
+    public static <T> Specification<T> conEstado(String estado) {
         return (root, query, cb) -> cb.equal(root.get("estado"), estado);
     }
 
-    public static Specification<JpaEventoEntity> conFechaInicioDespues(LocalDateTime fecha) {
+    public static <T> Specification<T> conFechaInicioDespues(LocalDateTime fecha) {
         return (root, query, cb) -> cb.greaterThanOrEqualTo(root.get("fechaInicio"), fecha);
     }
 
-    public static Specification<JpaEventoEntity> conFechaFinAntes(LocalDateTime fecha) {
+    public static <T> Specification<T> conFechaFinAntes(LocalDateTime fecha) {
         return (root, query, cb) -> cb.lessThanOrEqualTo(root.get("fechaFin"), fecha);
     }
 
-    public static Specification<JpaEventoEntity> enVenue(Long venueId) {
+    public static <T> Specification<T> enVenue(Long venueId) {
         return (root, query, cb) -> cb.equal(root.get("venue").get("id"), venueId);
     }
 
-    public static Specification<JpaEventoEntity> conCategoria(String categoria) {
+    public static <T> Specification<T> conCategoria(String categoria) {
         return (root, query, cb) -> cb.equal(root.get("categoria"), categoria);
     }
 
-    public static Specification<JpaEventoEntity> nombreLike(String nombreLike) {
-        return (root, query, cb) -> cb.like(cb.lower(root.get("nombre")), "%" + nombreLike.toLowerCase() + "%");
+    public static <T> Specification<T> nombreLike(String nombreLike) {
+        return (root, query, cb) -> nombreContiene(root, query, cb, nombreLike);
+    }
+
+    /**
+     * Condición keyset para paginar por (fechaInicio, id) ascendente.
+     * Los eventos sin fechaInicio no tienen posición en ese orden y quedan fuera.
+     */
+    public static <T> Specification<T> despuesDe(EventoCursor cursor) {
+        return (root, query, cb) -> {
+            Predicate conFecha = cb.isNotNull(root.get("fechaInicio"));
+            if (cursor == null) {
+                return conFecha;
+            }
+            return cb.and(conFecha, cb.or(
+                    cb.greaterThan(root.get("fechaInicio"), cursor.getFechaInicio()),
+                    cb.and(
+                            cb.equal(root.get("fechaInicio"), cursor.getFechaInicio()),
+                            cb.greaterThan(root.get("id"), cursor.getId()))));
+        };
     }
 
     /**
      * Construye una Specification combinada a partir de EventoSearchCriteria.
      */
-    public static Specification<JpaEventoEntity> fromCriteria(EventoSearchCriteria c) {
+    public static <T> Specification<T> fromCriteria(EventoSearchCriteria c) {
         return (root, query, cb) -> {
             List<Predicate> predicates = new ArrayList<>();
 
@@ -62,11 +91,33 @@ public class EventoSpecifications {
                 predicates.add(cb.equal(root.get("categoria"), c.getCategoria()));
             }
             if (c.getNombreLike() != null && !c.getNombreLike().isBlank()) {
-                predicates.add(cb.like(cb.lower(root.get("nombre")), "%" + c.getNombreLike().toLowerCase() + "%"));
+                predicates.add(nombreContiene(root, query, cb, c.getNombreLike()));
             }
 
-            query.distinct(true);
             return cb.and(predicates.toArray(new Predicate[0]));
         };
     }
-}
\ No newline at end of file
+
+    /**
+     * "nombre contiene texto" resuelto con el índice FULLTEXT (ngram) de nombre (evento o evento_view).
+     * En consultas de filas (no COUNT) ordena por relevancia; si la página trae un orden
+     * explícito, Spring Data lo reemplaza.
+     * Los textos más cortos que un n-grama caen a LIKE, que no usa índice.
+     * La frase va como parámetro (HibernateCriteriaBuilder.value), como los valores de los demás
+     * predicados: cb.literal la escribiría en el SQL y cada texto sería una sentencia distinta.
+     */
+    private static Predicate nombreContiene(Root<?> root, CriteriaQuery<?> query,
+                                            CriteriaBuilder cb, String texto) {
+        if (!BusquedaTexto.admiteIndice(texto)) {
+            return cb.like(cb.lower(root.get("nombre")), "%" + texto.trim().toLowerCase() + "%");
+        }
+
+        Expression<String> frase = ((HibernateCriteriaBuilder) cb).value(BusquedaTexto.aFrase(texto));
+        Expression<Double> relevancia = cb.function(CatalogoFunctionContributor.MATCH_AGAINST, Double.class,
+                root.get("nombre"), frase);
+        if (query != null && !Long.class.equals(query.getResultType())) {
+            query.orderBy(cb.desc(relevancia), cb.asc(root.get("id")));
+        }
+        return cb.greaterThan(relevancia, 0.0);
+    }
+}
@@ -0,0 +1,155 @@
+package com.ticket.catalogo.adapters.out.persistence.sql;
+
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.CallableStatement;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Cuenta las sentencias SQL que se ejecutan en el hilo actual, a nivel de JDBC.
+ * - Envuelve el DataSource de la aplicación (ver ContadorSentenciasConfig): cuenta lo de
+ *   Hibernate y lo de JdbcTemplate (evento_view, resumen, catalogo_cambio, importación).
+ * - Cuenta ejecuciones, no preparaciones: cada execute, executeQuery, executeUpdate o
+ *   executeBatch es un viaje a la base (un lote JDBC cuenta una vez).
+ * - Fuera de una medición no hace nada; las mediciones se pueden anidar y las
+ *   sentencias de una medición interna también cuentan en las externas.
+ */
+public final class ContadorSentencias extends DelegatingDataSource {
+
+    // Sentencias que se conservan por medición para diagnosticar (el total se cuenta igual)
+    private static final int MAX_SENTENCIAS_GUARDADAS = 50;
+
+    private static final Set<String> EJECUCIONES = Set.of("execute", "executeQuery", "executeUpdate",
+            "executeLargeUpdate", "executeBatch", "executeLargeBatch");
+
+    private static final ThreadLocal<Medicion> ACTUAL = new ThreadLocal<>();
+
+    public ContadorSentencias(DataSource dataSource) {
+        super(dataSource);
+    }
+
+    /** Comienza a contar en el hilo actual hasta que se cierre la medición devuelta. */
+    public static Medicion iniciar() {
+        Medicion medicion = new Medicion(ACTUAL.get());
+        ACTUAL.set(medicion);
+        return medicion;
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        return conContador(obtainTargetDataSource().getConnection());
+    }
+
+    @Override
+    public Connection getConnection(String usuario, String clave) throws SQLException {
+        return conContador(obtainTargetDataSource().getConnection(usuario, clave));
+    }
+
+    private static void registrar(String sql) {
+        Medicion medicion = ACTUAL.get();
+        if (medicion != null) {
+            medicion.registrar(sql);
+        }
+    }
+
+    private static Connection conContador(Connection conexion) {
+        return (Connection) Proxy.newProxyInstance(ContadorSentencias.class.getClassLoader(),
+                new Class<?>[]{Connection.class}, (proxy, metodo, args) -> {
+                    if (esIdentidad(metodo)) {
+                        return identidad(proxy, metodo, args);
+                    }
+                    Object resultado = invocar(conexion, metodo, args);
+                    if (resultado instanceof Statement sentencia) {
+                        // prepareStatement(sql, ...) y prepareCall(sql, ...): el SQL va en el primer argumento
+                        String sql = args != null && args.length > 0 && args[0] instanceof String s ? s : null;
+                        return conContador(sentencia, sql, (Connection) proxy);
+                    }
+                    return resultado;
+                });
+    }
+
+    private static Statement conContador(Statement sentencia, String sqlPreparado, Connection conexion) {
+        Class<?> tipo = sentencia instanceof CallableStatement ? CallableStatement.class
+                : sentencia instanceof PreparedStatement ? PreparedStatement.class : Statement.class;
+        return (Statement) Proxy.newProxyInstance(ContadorSentencias.class.getClassLoader(),
+                new Class<?>[]{tipo}, (proxy, metodo, args) -> {
+                    if (esIdentidad(metodo)) {
+                        return identidad(proxy, metodo, args);
+                    }
+                    if ("getConnection".equals(metodo.getName())) {
+                        return conexion;
+                    }
+                    if (EJECUCIONES.contains(metodo.getName())) {
+                        // Statement.execute(sql) trae el SQL; las preparadas lo recibieron al crearse
+                        registrar(args != null && args.length > 0 && args[0] instanceof String s ? s : sqlPreparado);
+                    }
+                    return invocar(sentencia, metodo, args);
+                });
+    }
+
+    private static boolean esIdentidad(Method metodo) {
+        return metodo.getDeclaringClass() == Object.class
+                && ("equals".equals(metodo.getName()) || "hashCode".equals(metodo.getName()));
+    }
+
+    private static Object identidad(Object proxy, Method metodo, Object[] args) {
+        return "equals".equals(metodo.getName()) ? proxy == args[0] : System.identityHashCode(proxy);
+    }
+
+    private static Object invocar(Object destino, Method metodo, Object[] args) throws Throwable {
+        try {
+            return metodo.invoke(destino, args);
+        } catch (InvocationTargetException e) {
+            throw e.getTargetException();
+        }
+    }
+
+    public static final class Medicion implements AutoCloseable {
+
+        private final Medicion anterior;
+        private final List<String> sentencias = new ArrayList<>();
+        private int total;
+
+        private Medicion(Medicion anterior) {
+            this.anterior = anterior;
+        }
+
+        private void registrar(String sql) {
+            for (Medicion m = this; m != null; m = m.anterior) {
+                m.total++;
+                if (m.sentencias.size() < MAX_SENTENCIAS_GUARDADAS) {
+                    m.sentencias.add(sql);
+                }
+            }
+        }
+
+        public int total() {
+            return total;
+        }
+
+        /** Primeras sentencias registradas, en orden de ejecución. */
+        public List<String> sentencias() {
+            return Collections.unmodifiableList(sentencias);
+        }
+
+        @Override
+        public void close() {
+            if (anterior == null) {
+                ACTUAL.remove();
+            } else {
+                ACTUAL.set(anterior);
+            }
+        }
+    }
+}
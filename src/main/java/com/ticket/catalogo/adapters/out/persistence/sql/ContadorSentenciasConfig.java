@@ -0,0 +1,29 @@
+package com.ticket.catalogo.adapters.out.persistence.sql;
+
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import javax.sql.DataSource;
+
+@Configuration
+public class ContadorSentenciasConfig {
+
+    // Nombre del DataSource de la aplicación: el de Spring Boot o, con réplica, el de RuteoDataSourceConfig
+    static final String DATA_SOURCE = "dataSource";
+
+    /**
+     * Envuelve el DataSource de la aplicación con ContadorSentencias: lo usan Hibernate,
+     * JdbcTemplate y las transacciones. Los pools y el monitor de la réplica quedan sin envolver.
+     */
+    @Bean
+    public static BeanPostProcessor contadorSentenciasPostProcessor() {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String nombre) {
+                return DATA_SOURCE.equals(nombre) && bean instanceof DataSource dataSource
+                        && !(bean instanceof ContadorSentencias) ? new ContadorSentencias(dataSource) : bean;
+            }
+        };
+    }
+}
@@ -0,0 +1,27 @@
+package com.ticket.catalogo.application.DTO;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import io.swagger.v3.oas.annotations.media.Schema;
+import org.springframework.data.domain.Page;
+import org.springframework.data.web.PagedModel;
+
+/**
+ * Página de /api/eventos/search con el mismo formato que una Page (content + page) y,
+ * si se pidieron, las facetas de la búsqueda completa.
+ */
+@Schema(description = "Página de eventos de la búsqueda y, con facetas=true, sus conteos por estado, categoría y venue")
+public class BusquedaEventosDto extends PagedModel<EventoDto> {
+
+    private final FacetasEventoDto facetas;
+
+    public BusquedaEventosDto(Page<EventoDto> pagina, FacetasEventoDto facetas) {
+        super(pagina);
+        this.facetas = facetas;
+    }
+
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    @Schema(description = "Conteos de todos los eventos que cumplen los filtros; null si no se pidieron")
+    public FacetasEventoDto getFacetas() {
+        return facetas;
+    }
+}
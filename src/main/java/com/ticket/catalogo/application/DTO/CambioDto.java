@@ -0,0 +1,36 @@
+package com.ticket.catalogo.application.DTO;
+
+import com.ticket.catalogo.domain.model.Cambio;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.*;
+
+import java.time.Instant;
+
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Getter
+@Setter
+@Schema(description = "Cambio de una entidad del catálogo")
+public class CambioDto {
+
+    @Schema(description = "Entidad afectada", example = "EVENTO")
+    private Cambio.Entidad entidad;
+
+    @Schema(description = "Id de la entidad afectada", example = "12")
+    private Long id;
+
+    @Schema(description = "ALTA, CAMBIO o BAJA", example = "CAMBIO")
+    private Cambio.Operacion operacion;
+
+    @Schema(description = "Versión de la entidad tras el cambio; null en bajas", example = "3")
+    private Long version;
+
+    @Schema(description = "Momento en que se registró el cambio")
+    private Instant registradoEn;
+
+    public static CambioDto fromDomain(Cambio c) {
+        if (c == null) return null;
+        return new CambioDto(c.getEntidad(), c.getEntidadId(), c.getOperacion(), c.getVersion(), c.getRegistradoEn());
+    }
+}
@@ -0,0 +1,24 @@
+package com.ticket.catalogo.application.DTO;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.*;
+
+import java.util.List;
+
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Getter
+@Setter
+@Schema(description = "Cambios del catálogo posteriores a un token, en el orden en que ocurrieron")
+public class CambiosDto {
+
+    @Schema(description = "Cambios de esta página (puede haber varios de la misma entidad)")
+    private List<CambioDto> cambios;
+
+    @Schema(description = "Token para la siguiente llamada (since); igual al recibido si no hubo cambios", example = "MTIzNA")
+    private String siguiente;
+
+    @Schema(description = "Indica si ya hay más cambios disponibles después de esta página", example = "false")
+    private boolean hayMas;
+}
@@ -0,0 +1,31 @@
+package com.ticket.catalogo.application.DTO;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.*;
+
+import java.time.LocalDate;
+import java.util.List;
+
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Getter
+@Setter
+@Schema(description = "Días libres de un venue en [desde, hasta)")
+public class DisponibilidadDto {
+
+    @Schema(description = "Id del venue", example = "1")
+    private Long venueId;
+
+    @Schema(description = "Primer día consultado", example = "2025-12-01")
+    private LocalDate desde;
+
+    @Schema(description = "Día siguiente al último consultado", example = "2026-12-01")
+    private LocalDate hasta;
+
+    @Schema(description = "Un carácter por día desde 'desde': 1 ocupado, 0 libre", example = "0011000")
+    private String ocupacion;
+
+    @Schema(description = "Días sin ningún evento, en orden")
+    private List<LocalDate> libres;
+}
@@ -0,0 +1,34 @@
+package com.ticket.catalogo.application.DTO;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.*;
+
+import java.time.LocalDate;
+import java.util.Map;
+
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Getter
+@Setter
+@Schema(description = "Conteos de eventos del resumen mantenido con deltas")
+public class EstadisticasEventosDto {
+
+    @Schema(description = "Total de eventos", example = "1250")
+    private long total;
+
+    @Schema(description = "Eventos por estado")
+    private Map<String, Long> porEstado;
+
+    @Schema(description = "Eventos por id de venue")
+    private Map<Long, Long> porVenue;
+
+    @Schema(description = "Primer día de porDia", example = "2025-12-01")
+    private LocalDate desde;
+
+    @Schema(description = "Día siguiente al último de porDia", example = "2025-12-31")
+    private LocalDate hasta;
+
+    @Schema(description = "Eventos por día de inicio en [desde, hasta); los días sin eventos se omiten")
+    private Map<LocalDate, Long> porDia;
+}
@@ -29,12 +29,18 @@ public class EventoDto {
     @Schema(description = "Estado del evento", example = "ACTIVO")
     private String estado;
 
+    @Schema(description = "Categoría del evento", example = "MUSICA")
+    private String categoria;
+
     @Schema(description = "Id del venue asociado", example = "1")
     private Long venueId;
 
     @Schema(description = "Nombre del venue asociado", example = "Auditorio Nacional")
     private String venueNombre;
 
+    @Schema(description = "Versión para control de concurrencia: en PUT, si se envía, debe coincidir con la actual", example = "0")
+    private Long version;
+
     public static EventoDto fromDomain(Evento e) {
         if (e == null) return null;
         EventoDto d = new EventoDto();
@@ -43,10 +49,12 @@ public class EventoDto {
         d.setFechaInicio(e.getFechaInicio());
         d.setFechaFin(e.getFechaFin());
         d.setEstado(e.getEstado());
+        d.setCategoria(e.getCategoria());
         if (e.getVenue() != null) {
             d.setVenueId(e.getVenue().getId());
             d.setVenueNombre(e.getVenue().getNombre());
         }
+        d.setVersion(e.getVersion());
         return d;
     }
 
@@ -57,6 +65,8 @@ public class EventoDto {
         e.setFechaInicio(this.fechaInicio);
         e.setFechaFin(this.fechaFin);
         e.setEstado(this.estado);
+        e.setCategoria(this.categoria);
+        e.setVersion(this.version);
         if (this.venueId != null) {
             Venue v = new Venue();
             v.setId(this.venueId);
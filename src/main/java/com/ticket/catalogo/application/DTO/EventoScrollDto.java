@@ -0,0 +1,24 @@
+package com.ticket.catalogo.application.DTO;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.*;
+
+import java.util.List;
+
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Getter
+@Setter
+@Schema(description = "Página de eventos obtenida por cursor (sin total de elementos)")
+public class EventoScrollDto {
+
+    @Schema(description = "Eventos de la página, ordenados por fechaInicio e id")
+    private List<EventoDto> content;
+
+    @Schema(description = "Cursor opaco para pedir la página siguiente; null si no hay más", example = "MjAyNS0xMi0xMFQyMDowMHwxMg")
+    private String nextCursor;
+
+    @Schema(description = "Indica si existen más eventos después de esta página", example = "true")
+    private boolean hasNext;
+}
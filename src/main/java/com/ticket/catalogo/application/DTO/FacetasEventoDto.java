@@ -0,0 +1,24 @@
+package com.ticket.catalogo.application.DTO;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.*;
+
+import java.util.Map;
+
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Getter
+@Setter
+@Schema(description = "Conteos de los eventos que cumplen los filtros de la búsqueda (sin paginar)")
+public class FacetasEventoDto {
+
+    @Schema(description = "Eventos por estado")
+    private Map<String, Long> porEstado;
+
+    @Schema(description = "Eventos por categoría; los eventos sin categoría no se cuentan")
+    private Map<String, Long> porCategoria;
+
+    @Schema(description = "Eventos por id de venue")
+    private Map<Long, Long> porVenue;
+}
@@ -0,0 +1,30 @@
+package com.ticket.catalogo.application.DTO;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.*;
+
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Getter
+@Setter
+@Schema(description = "Resultado de una fila de la importación masiva")
+public class FilaImportacionDto {
+
+    @Schema(description = "Número de fila en la entrada (desde 1)", example = "3")
+    private int fila;
+
+    @Schema(description = "Id asignado si la fila se importó", example = "1024")
+    private Long id;
+
+    @Schema(description = "Motivo del rechazo si la fila falló", example = "Venue no encontrado con id: 99")
+    private String error;
+
+    public static FilaImportacionDto ok(int fila, Long id) {
+        return new FilaImportacionDto(fila, id, null);
+    }
+
+    public static FilaImportacionDto error(int fila, String error) {
+        return new FilaImportacionDto(fila, null, error);
+    }
+}
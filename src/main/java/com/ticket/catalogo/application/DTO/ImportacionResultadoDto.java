@@ -0,0 +1,27 @@
+package com.ticket.catalogo.application.DTO;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.*;
+
+import java.util.List;
+
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Getter
+@Setter
+@Schema(description = "Resumen de una importación masiva de eventos")
+public class ImportacionResultadoDto {
+
+    @Schema(description = "Filas recibidas", example = "100000")
+    private int total;
+
+    @Schema(description = "Filas insertadas", example = "99998")
+    private int importados;
+
+    @Schema(description = "Filas rechazadas", example = "2")
+    private int fallidos;
+
+    @Schema(description = "Resultado por fila, en el orden de la entrada")
+    private List<FilaImportacionDto> filas;
+}
@@ -0,0 +1,29 @@
+package com.ticket.catalogo.application.DTO;
+
+import com.ticket.catalogo.application.port.out.IntervaloEvento;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Getter
+@Setter
+@Schema(description = "Tramo [fechaInicio, fechaFin) en que un evento ocupa su venue")
+public class IntervaloAgendaDto {
+
+    @Schema(description = "Id del evento", example = "12")
+    private Long eventoId;
+
+    @Schema(description = "Inicio de la ocupación", example = "2025-12-10T20:00:00")
+    private LocalDateTime fechaInicio;
+
+    @Schema(description = "Fin de la ocupación (excluido)", example = "2025-12-10T23:00:00")
+    private LocalDateTime fechaFin;
+
+    public static IntervaloAgendaDto fromPort(IntervaloEvento intervalo) {
+        return new IntervaloAgendaDto(intervalo.getEventoId(), intervalo.getInicio(), intervalo.getFin());
+    }
+}
@@ -0,0 +1,48 @@
+package com.ticket.catalogo.application.DTO;
+
+import com.ticket.catalogo.application.port.out.EventoSearchCriteria;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Getter
+@Setter
+@Schema(description = "Transición masiva de estado: los filtros de /api/eventos/search y el estado destino")
+public class TransicionEstadoDto {
+
+    @Schema(description = "Estado actual de los eventos a mover", example = "ACTIVO")
+    private String estado;
+
+    @Schema(description = "Fecha de inicio mínima (inclusive)", example = "2025-01-01T00:00:00")
+    private LocalDateTime inicio;
+
+    @Schema(description = "Fecha de fin máxima (inclusive)", example = "2025-12-31T23:59:59")
+    private LocalDateTime fin;
+
+    @Schema(description = "Solo eventos de este venue", example = "1")
+    private Long venueId;
+
+    @Schema(description = "Solo eventos de esta categoría", example = "MUSICA")
+    private String categoria;
+
+    @Schema(description = "El nombre contiene este texto", example = "Rock")
+    private String nombre;
+
+    @Schema(description = "Estado al que pasan los eventos", example = "FINALIZADO")
+    private String estadoDestino;
+
+    public EventoSearchCriteria toCriteria() {
+        return EventoSearchCriteria.builder()
+                .estado(estado)
+                .fechaInicioDesde(inicio)
+                .fechaFinHasta(fin)
+                .venueId(venueId)
+                .categoria(categoria)
+                .nombreLike(nombre)
+                .build();
+    }
+}
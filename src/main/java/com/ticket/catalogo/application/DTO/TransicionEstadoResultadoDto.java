@@ -0,0 +1,28 @@
+package com.ticket.catalogo.application.DTO;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.*;
+
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Getter
+@Setter
+@Schema(description = "Resumen de una transición masiva de estado")
+public class TransicionEstadoResultadoDto {
+
+    @Schema(description = "Estado al que pasaron los eventos", example = "FINALIZADO")
+    private String estadoDestino;
+
+    @Schema(description = "Eventos actualizados", example = "12500")
+    private int actualizados;
+
+    @Schema(description = "Lotes (transacciones) ejecutados", example = "25")
+    private int lotes;
+
+    @Schema(description = "Duración del lote más largo: tiempo máximo con filas bloqueadas", example = "40")
+    private long loteMaximoMs;
+
+    @Schema(description = "Duración total", example = "900")
+    private long duracionMs;
+}
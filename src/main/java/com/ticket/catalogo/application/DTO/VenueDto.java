@@ -27,6 +27,9 @@ public class VenueDto {
     @Schema(description = "Ubicación física", example = "Ciudad X, Calle 123")
     private String ubicacion;
 
+    @Schema(description = "Versión para control de concurrencia: en PUT, si se envía, debe coincidir con la actual", example = "0")
+    private Long version;
+
     // Conversión desde domain
     public static VenueDto fromDomain(Venue v) {
         if (v == null) return null;
@@ -35,6 +38,7 @@ public class VenueDto {
         d.setNombre(v.getNombre());
         d.setCapacidad(v.getCapacidad());
         d.setUbicacion(v.getUbicacion());
+        d.setVersion(v.getVersion());
         return d;
     }
 
@@ -45,6 +49,7 @@ public class VenueDto {
         v.setNombre(this.nombre);
         v.setCapacidad(this.capacidad);
         v.setUbicacion(this.ubicacion);
+        v.setVersion(this.version);
         return v;
     }
 
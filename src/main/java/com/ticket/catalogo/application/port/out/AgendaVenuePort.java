@@ -0,0 +1,65 @@
+package com.ticket.catalogo.application.port.out;
+
+import com.ticket.catalogo.domain.model.Evento;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Ocupación de cada venue por sus eventos (los que tienen las dos fechas y no están CANCELADO),
+ * como intervalos semiabiertos [fechaInicio, fechaFin). Los casos de uso la mantienen al día en
+ * cada escritura.
+ */
+public interface AgendaVenuePort {
+
+    /**
+     * Un evento cancelado deja libre su tramo: no choca con otros ni ocupa días.
+     */
+    String ESTADO_CANCELADO = "CANCELADO";
+
+    static boolean ocupaVenue(Evento evento) {
+        return evento.getVenue() != null && evento.getVenue().getId() != null
+                && evento.getFechaInicio() != null && evento.getFechaFin() != null
+                && !ESTADO_CANCELADO.equals(evento.getEstado());
+    }
+
+    /**
+     * Deja en memoria la agenda de cada venue que aún no lo esté. Las reservas la llaman antes de
+     * tomar sus bloqueos, para no consultar la base con el bloqueo tomado.
+     */
+    void cargar(Collection<Long> venueIds);
+
+    /**
+     * Algún evento del venue, distinto de excluirEventoId (puede ser null), que se solapa con
+     * [inicio, fin); vacío si el venue está libre en ese tramo.
+     */
+    Optional<IntervaloEvento> buscarSolapado(Long venueId, LocalDateTime inicio, LocalDateTime fin, Long excluirEventoId);
+
+    /**
+     * Eventos del venue que se solapan con [desde, hasta), ordenados por inicio.
+     */
+    List<IntervaloEvento> enVentana(Long venueId, LocalDateTime desde, LocalDateTime hasta);
+
+    /**
+     * Días ocupados del venue en [desde, hasta): el bit i corresponde a desde + i días. Un día
+     * está ocupado si algún evento se solapa con alguna parte de él.
+     */
+    BitSet diasOcupados(Long venueId, LocalDate desde, LocalDate hasta);
+
+    /**
+     * Ubica el evento con su venue, fechas y estado actuales, quitándolo de donde estuviera.
+     * Un evento que no ocupa su venue (ver ocupaVenue) solo se quita.
+     */
+    void registrar(Evento evento);
+
+    void quitar(Long eventoId);
+
+    /**
+     * Descarta lo conocido del venue (p. ej. se borró); se vuelve a cargar en el siguiente uso.
+     */
+    void invalidarVenue(Long venueId);
+}
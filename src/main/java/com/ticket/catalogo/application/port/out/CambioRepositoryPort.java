@@ -0,0 +1,42 @@
+package com.ticket.catalogo.application.port.out;
+
+import com.ticket.catalogo.domain.model.Cambio;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Registro de cambios (outbox) del catálogo. Las escrituras deben ocurrir en la misma
+ * transacción que el cambio que registran.
+ */
+public interface CambioRepositoryPort {
+
+    void registrar(Cambio.Entidad entidad, Long entidadId, Cambio.Operacion operacion, Long version);
+
+    /**
+     * Altas de entidades recién insertadas (version 0), en un solo lote.
+     */
+    void registrarAltas(Cambio.Entidad entidad, Collection<Long> ids);
+
+    /**
+     * Bajas de todos los eventos del venue, en una sola sentencia. Debe llamarse antes de
+     * borrar el venue: la FK borra sus eventos en cascada sin pasar por la aplicación.
+     */
+    int registrarBajasDeEventosDelVenue(Long venueId);
+
+    /**
+     * Cambios de los eventos de ids que ya están en estado, con su versión actual, en una sola
+     * sentencia. Se llama después de cambiarEstado, en la misma transacción.
+     */
+    int registrarCambiosDeEstado(Collection<Long> eventoIds, String estado);
+
+    /**
+     * Hasta limite cambios con id mayor que despuesDe, en orden de id. Solo se devuelven los
+     * registrados hace más de margen: un id menor puede confirmarse después que uno mayor,
+     * y el margen evita que un consumidor avance su posición por encima de él. Es un límite de
+     * tiempo, no un orden de commit: una fila cuya transacción sigue abierta pasado el margen
+     * queda detrás de la posición de los consumidores y no se entrega.
+     */
+    List<Cambio> listarDesde(long despuesDe, int limite, Duration margen);
+}
@@ -0,0 +1,56 @@
+package com.ticket.catalogo.application.port.out;
+
+import com.ticket.catalogo.domain.model.Evento;
+
+import java.time.LocalDate;
+import java.util.Objects;
+
+/**
+ * Lo que un evento aporta a los conteos del resumen: su estado, su venue y el día de inicio.
+ * Un cambio que no altera la clave no mueve ningún conteo.
+ */
+public final class ClaveResumen {
+
+    private final String estado;
+    private final Long venueId;
+    private final LocalDate dia;
+
+    public ClaveResumen(String estado, Long venueId, LocalDate dia) {
+        this.estado = estado;
+        this.venueId = venueId;
+        this.dia = dia;
+    }
+
+    public static ClaveResumen de(Evento evento) {
+        return new ClaveResumen(
+                evento.getEstado(),
+                evento.getVenue() == null ? null : evento.getVenue().getId(),
+                evento.getFechaInicio() == null ? null : evento.getFechaInicio().toLocalDate());
+    }
+
+    public String getEstado() {
+        return estado;
+    }
+
+    public Long getVenueId() {
+        return venueId;
+    }
+
+    public LocalDate getDia() {
+        return dia;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (!(o instanceof ClaveResumen otra)) return false;
+        return Objects.equals(estado, otra.estado)
+                && Objects.equals(venueId, otra.venueId)
+                && Objects.equals(dia, otra.dia);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(estado, venueId, dia);
+    }
+}
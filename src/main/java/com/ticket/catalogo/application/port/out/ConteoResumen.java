@@ -0,0 +1,32 @@
+package com.ticket.catalogo.application.port.out;
+
+/**
+ * Un conteo del resumen de eventos (o un delta sobre él): dimensión, clave dentro de la
+ * dimensión y total. Las claves de VENUE son el id y las de DIA la fecha ISO (yyyy-MM-dd).
+ */
+public final class ConteoResumen {
+
+    public enum Dimension { TOTAL, ESTADO, VENUE, DIA }
+
+    private final Dimension dimension;
+    private final String clave;
+    private final long total;
+
+    public ConteoResumen(Dimension dimension, String clave, long total) {
+        this.dimension = dimension;
+        this.clave = clave;
+        this.total = total;
+    }
+
+    public Dimension getDimension() {
+        return dimension;
+    }
+
+    public String getClave() {
+        return clave;
+    }
+
+    public long getTotal() {
+        return total;
+    }
+}
@@ -0,0 +1,71 @@
+package com.ticket.catalogo.application.port.out;
+
+import com.ticket.catalogo.shared.exceptions.DomainException;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+import java.util.Objects;
+
+/**
+ * Posición de lectura para la paginación por cursor (keyset) de eventos.
+ * Identifica el último evento entregado por (fechaInicio, id); la siguiente página
+ * empieza estrictamente después de esa clave. Se serializa como texto opaco (Base64 URL-safe).
+ */
+public final class EventoCursor {
+
+    private static final String SEPARADOR = "|";
+
+    private final LocalDateTime fechaInicio;
+    private final Long id;
+
+    public EventoCursor(LocalDateTime fechaInicio, Long id) {
+        this.fechaInicio = Objects.requireNonNull(fechaInicio, "fechaInicio");
+        this.id = Objects.requireNonNull(id, "id");
+    }
+
+    public LocalDateTime getFechaInicio() {
+        return fechaInicio;
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public String encode() {
+        String raw = fechaInicio + SEPARADOR + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static EventoCursor decode(String token) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            int sep = raw.lastIndexOf(SEPARADOR);
+            if (sep < 0) {
+                throw new DomainException("Cursor inválido");
+            }
+            return new EventoCursor(LocalDateTime.parse(raw.substring(0, sep)), Long.valueOf(raw.substring(sep + 1)));
+        } catch (IllegalArgumentException | DateTimeParseException e) {
+            throw new DomainException("Cursor inválido", e);
+        }
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (!(o instanceof EventoCursor)) return false;
+        EventoCursor that = (EventoCursor) o;
+        return fechaInicio.equals(that.fechaInicio) && id.equals(that.id);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(fechaInicio, id);
+    }
+
+    @Override
+    public String toString() {
+        return "EventoCursor{fechaInicio=" + fechaInicio + ", id=" + id + '}';
+    }
+}
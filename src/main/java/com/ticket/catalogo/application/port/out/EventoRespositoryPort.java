@@ -1,18 +1,93 @@
 package com.ticket.catalogo.application.port.out;
 
+import com.ticket.catalogo.application.DTO.EventoDto;
+import com.ticket.catalogo.application.DTO.FacetasEventoDto;
 import com.ticket.catalogo.domain.model.Evento;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.function.Consumer;
 import java.util.Optional;
 
 public interface EventoRespositoryPort {
     Evento save(Evento evento);
+
+    /**
+     * Inserta eventos nuevos (venue ya validado) con batching JDBC y devuelve los mismos objetos
+     * con el id asignado, en el mismo orden.
+     */
+    List<Evento> insertAll(List<Evento> eventos);
     Optional<Evento> findById(Long id);
+
+    /**
+     * Eventos (con su venue) en una sola consulta, en el orden de ids; los inexistentes se omiten.
+     */
+    List<Evento> findAllById(Collection<Long> ids);
     List<Evento> findAll();
+
+    /**
+     * Recorre todos los eventos (con su venue) ordenados por id, entregándolos de a uno
+     * sin acumularlos en memoria. Requiere una transacción activa.
+     */
+    void forEach(Consumer<Evento> accion);
     List<Evento> findByVenueId(Long venueId);
-    void deleteById(Long id);
+
+    /**
+     * Actualización parcial en un solo UPDATE: solo los campos con valor en cambios (venue por id),
+     * incrementando version. Con version no nula solo actualiza si coincide con la actual.
+     * Devuelve false si ninguna fila cumplió: no existe, otra versión, o una sola fecha nueva
+     * que queda invertida respecto de la guardada.
+     */
+    boolean actualizarParcial(Long id, Long version, Evento cambios);
+
+    /**
+     * Versión actual sin cargar la fila; vacío si el evento no existe.
+     */
+    Optional<Long> findVersionById(Long id);
+
+    /**
+     * Validadores para GET condicional (versión del evento y de su venue, última modificación),
+     * sin cargar ni mapear el evento; vacío si no existe.
+     */
+    Optional<MarcaVersion> findMarcaById(Long id);
+
+    /**
+     * DELETE directo, sin leer antes la fila; false si no existía.
+     */
+    boolean deleteById(Long id);
+
+    /**
+     * Ids ascendentes, mayores que despuesDe, de hasta limite eventos que cumplen criteria y
+     * no están ya en estadoDestino. Lectura sin bloqueos: define el lote de una transición masiva.
+     */
+    List<Long> findIdsParaTransicion(EventoSearchCriteria criteria, String estadoDestino, long despuesDe, int limite);
+
+    /**
+     * UPDATE evento SET estado = estadoDestino, version = version + 1 sobre los ids dados que todavía
+     * cumplen criteria (otra escritura pudo cambiarlos después de elegirlos). Devuelve las filas afectadas.
+     */
+    int cambiarEstado(Collection<Long> ids, EventoSearchCriteria criteria, String estadoDestino);
 
     Page<Evento> search(EventoSearchCriteria criteria, Pageable pageable);
+
+    /**
+     * Igual que search, pero proyectado directamente a EventoDto desde evento_view (una fila = un DTO, sin join):
+     * camino de solo lectura que no materializa entidades ni objetos de dominio.
+     */
+    Page<EventoDto> searchDto(EventoSearchCriteria criteria, Pageable pageable);
+
+    /**
+     * Conteos por estado, categoría y venue de todos los eventos que cumplen criteria,
+     * en una sola consulta agregada.
+     */
+    FacetasEventoDto contarFacetas(EventoSearchCriteria criteria);
+
+    /**
+     * Búsqueda por cursor (keyset) ordenada por (fechaInicio, id), sin consulta COUNT.
+     * Con cursor null devuelve la primera página.
+     */
+    Slice<Evento> searchAfter(EventoSearchCriteria criteria, EventoCursor cursor, int size);
 }
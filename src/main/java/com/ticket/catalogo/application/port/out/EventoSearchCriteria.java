@@ -17,6 +17,7 @@ public class EventoSearchCriteria implements Serializable {
     private final LocalDateTime fechaFinHasta;
     private final Long venueId;
     private final String categoria;
+    // "el nombre contiene": la infraestructura lo resuelve con búsqueda de texto y ordena por relevancia
     private final String nombreLike;
 
     private EventoSearchCriteria(Builder b) {
@@ -0,0 +1,31 @@
+package com.ticket.catalogo.application.port.out;
+
+import java.time.LocalDateTime;
+
+/**
+ * Ocupación de un venue por un evento: [inicio, fin), sin el resto de sus datos.
+ */
+public final class IntervaloEvento {
+
+    private final Long eventoId;
+    private final LocalDateTime inicio;
+    private final LocalDateTime fin;
+
+    public IntervaloEvento(Long eventoId, LocalDateTime inicio, LocalDateTime fin) {
+        this.eventoId = eventoId;
+        this.inicio = inicio;
+        this.fin = fin;
+    }
+
+    public Long getEventoId() {
+        return eventoId;
+    }
+
+    public LocalDateTime getInicio() {
+        return inicio;
+    }
+
+    public LocalDateTime getFin() {
+        return fin;
+    }
+}
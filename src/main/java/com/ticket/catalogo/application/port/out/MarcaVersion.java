@@ -0,0 +1,81 @@
+package com.ticket.catalogo.application.port.out;
+
+import com.ticket.catalogo.domain.model.Evento;
+import com.ticket.catalogo.domain.model.Venue;
+
+import java.time.Instant;
+import java.util.Objects;
+
+/**
+ * Validadores de caché HTTP de un recurso: ETag fuerte (a partir de version) y fecha de
+ * última modificación. La representación de un evento incluye el nombre de su venue, así
+ * que su marca combina ambas versiones y la modificación más reciente de los dos.
+ */
+public final class MarcaVersion {
+
+    private final String etag;
+    private final Instant actualizadoEn;
+
+    private MarcaVersion(String etag, Instant actualizadoEn) {
+        this.etag = etag;
+        this.actualizadoEn = actualizadoEn;
+    }
+
+    public static MarcaVersion deVenue(Long version, Instant actualizadoEn) {
+        return new MarcaVersion(String.valueOf(version), actualizadoEn);
+    }
+
+    public static MarcaVersion deEvento(Long version, Long versionVenue,
+                                        Instant actualizadoEn, Instant venueActualizadoEn) {
+        return new MarcaVersion(version + "-" + versionVenue, masReciente(actualizadoEn, venueActualizadoEn));
+    }
+
+    public static MarcaVersion de(Venue venue) {
+        return deVenue(venue.getVersion(), venue.getActualizadoEn());
+    }
+
+    public static MarcaVersion de(Evento evento) {
+        Venue venue = evento.getVenue();
+        return venue == null
+                ? deEvento(evento.getVersion(), null, evento.getActualizadoEn(), null)
+                : deEvento(evento.getVersion(), venue.getVersion(), evento.getActualizadoEn(), venue.getActualizadoEn());
+    }
+
+    /**
+     * Valor del ETag, sin comillas.
+     */
+    public String getEtag() {
+        return etag;
+    }
+
+    /**
+     * Null si no se conoce (p. ej. un objeto recién creado en memoria).
+     */
+    public Instant getActualizadoEn() {
+        return actualizadoEn;
+    }
+
+    private static Instant masReciente(Instant a, Instant b) {
+        if (a == null) return b;
+        if (b == null) return a;
+        return a.isAfter(b) ? a : b;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (!(o instanceof MarcaVersion)) return false;
+        MarcaVersion that = (MarcaVersion) o;
+        return etag.equals(that.etag) && Objects.equals(actualizadoEn, that.actualizadoEn);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(etag, actualizadoEn);
+    }
+
+    @Override
+    public String toString() {
+        return "MarcaVersion{etag=" + etag + ", actualizadoEn=" + actualizadoEn + '}';
+    }
+}
@@ -0,0 +1,52 @@
+package com.ticket.catalogo.application.port.out;
+
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Conteos de eventos por estado, venue y día, mantenidos con deltas. Las escrituras deben
+ * ocurrir en la misma transacción que el cambio de eventos que reflejan.
+ */
+public interface ResumenEventosPort {
+
+    /**
+     * Claves actuales de los eventos, bloqueando sus filas hasta el fin de la transacción
+     * (SELECT ... FOR UPDATE): entre esta lectura y la escritura nadie más puede moverlas.
+     * Los ids que no existen no aparecen en el mapa.
+     */
+    Map<Long, ClaveResumen> bloquear(Collection<Long> eventoIds);
+
+    /**
+     * Aplica la diferencia entre las claves de antes y de después: un id solo en despues es un
+     * alta, solo en antes una baja y en ambos un cambio (sin efecto si la clave es la misma).
+     */
+    void mover(Map<Long, ClaveResumen> antes, Map<Long, ClaveResumen> despues);
+
+    /**
+     * Resta todos los eventos del venue en una sola sentencia. Debe llamarse antes de borrar el
+     * venue: la FK borra sus eventos en cascada sin pasar por la aplicación.
+     */
+    void restarEventosDelVenue(Long venueId);
+
+    /**
+     * Conteos distintos de cero: TOTAL, ESTADO y VENUE completos y DIA en [diaDesde, diaHasta).
+     */
+    List<ConteoResumen> leer(LocalDate diaDesde, LocalDate diaHasta);
+
+    /**
+     * Todos los conteos del resumen, para conciliarlos con contarEventos.
+     */
+    List<ConteoResumen> leerTodo();
+
+    /**
+     * Los mismos conteos calculados con GROUP BY sobre evento (recorre la tabla completa).
+     */
+    List<ConteoResumen> contarEventos();
+
+    /**
+     * Suma los deltas indicados a los conteos.
+     */
+    void corregir(Collection<ConteoResumen> deltas);
+}
@@ -1,7 +1,10 @@
 package com.ticket.catalogo.application.port.out;
 
 import com.ticket.catalogo.domain.model.Venue;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -9,8 +12,45 @@ public interface VenueRepositoryPort {
 
     Venue save(Venue venue);
     Optional<Venue> findById(Long id);
+
+    /**
+     * Venues en una sola consulta, en el orden de ids; los inexistentes se omiten.
+     */
+    List<Venue> findAllById(Collection<Long> ids);
     List<Venue> findAll();
     List<Venue> findByVenueId(Long venueId);
-    void deleteById(Long id);
+
+    /**
+     * Actualización parcial en un solo UPDATE: solo los campos con valor en cambios,
+     * incrementando version. Con version no nula solo actualiza si coincide con la actual.
+     * Devuelve false si ninguna fila cumplió (no existe u otra versión).
+     */
+    boolean actualizarParcial(Long id, Long version, Venue cambios);
+
+    /**
+     * Versión actual sin cargar la fila; vacío si el venue no existe.
+     */
+    Optional<Long> findVersionById(Long id);
+
+    /**
+     * Validadores para GET condicional sin cargar ni mapear el venue; vacío si no existe.
+     */
+    Optional<MarcaVersion> findMarcaById(Long id);
+
+    /**
+     * DELETE directo, sin leer antes la fila (sus eventos los borra la FK); false si no existía.
+     */
+    boolean deleteById(Long id);
+
+    /**
+     * Venues cuyo nombre contiene el texto, ordenados por relevancia.
+     */
+    Page<Venue> buscarPorNombre(String texto, Pageable pageable);
+
+    /**
+     * Listado paginado; nombre y ubicacion (opcionales) filtran por prefijo.
+     * Los venues devueltos no traen eventos.
+     */
+    Page<Venue> listar(String nombrePrefijo, String ubicacionPrefijo, Pageable pageable);
 
 }
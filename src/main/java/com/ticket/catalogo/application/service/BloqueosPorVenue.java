@@ -0,0 +1,62 @@
+package com.ticket.catalogo.application.service;
+
+import java.util.Collection;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Supplier;
+
+/**
+ * Bloqueos por venue repartidos en un número fijo de franjas (venues distintos pueden compartir
+ * franja): serializa en esta instancia la comprobación de solapamiento y el registro en la
+ * agenda, sin un objeto de bloqueo por venue.
+ */
+final class BloqueosPorVenue {
+
+    private final ReentrantLock[] franjas;
+
+    BloqueosPorVenue(int cantidad) {
+        franjas = new ReentrantLock[cantidad];
+        for (int i = 0; i < cantidad; i++) {
+            franjas[i] = new ReentrantLock();
+        }
+    }
+
+    <T> T conBloqueo(Long venueId, Supplier<T> accion) {
+        ReentrantLock bloqueo = franjas[franja(venueId)];
+        bloqueo.lock();
+        try {
+            return accion.get();
+        } finally {
+            bloqueo.unlock();
+        }
+    }
+
+    /**
+     * Como conBloqueo, con las franjas de todos los venues indicados a la vez. Se toman en orden
+     * ascendente de franja: dos llamadas con venues en común no pueden esperarse mutuamente.
+     */
+    <T> T conBloqueos(Collection<Long> venueIds, Supplier<T> accion) {
+        boolean[] usadas = new boolean[franjas.length];
+        for (Long venueId : venueIds) {
+            usadas[franja(venueId)] = true;
+        }
+        int tomadas = 0;
+        try {
+            for (; tomadas < franjas.length; tomadas++) {
+                if (usadas[tomadas]) {
+                    franjas[tomadas].lock();
+                }
+            }
+            return accion.get();
+        } finally {
+            for (int i = tomadas - 1; i >= 0; i--) {
+                if (usadas[i]) {
+                    franjas[i].unlock();
+                }
+            }
+        }
+    }
+
+    private int franja(Long venueId) {
+        return Math.floorMod(Long.hashCode(venueId), franjas.length);
+    }
+}
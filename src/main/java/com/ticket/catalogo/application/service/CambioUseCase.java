@@ -0,0 +1,91 @@
+package com.ticket.catalogo.application.service;
+
+import com.ticket.catalogo.application.DTO.CambioDto;
+import com.ticket.catalogo.application.DTO.CambiosDto;
+import com.ticket.catalogo.application.port.out.CambioRepositoryPort;
+import com.ticket.catalogo.domain.model.Cambio;
+import com.ticket.catalogo.shared.exceptions.DomainException;
+import io.micrometer.core.annotation.Timed;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.util.StringUtils;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Base64;
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * Lectura incremental del registro de cambios: cada llamada devuelve lo ocurrido después
+ * del token recibido y el token para la siguiente, así un consumidor se sincroniza en
+ * O(cambios) en vez de volver a descargar el catálogo.
+ * - Solo se entregan cambios registrados hace más de catalogo.cambios.margen (ver
+ *   CambioRepositoryPort.listarDesde). La lectura es de solo lectura y puede ir a la réplica:
+ *   con la réplica activa el margen tiene que superar su retraso tolerado, o un cambio ya
+ *   confirmado en el primario y todavía no replicado quedaría detrás del token.
+ */
+@Service
+@Timed("catalogo.casodeuso")
+public class CambioUseCase {
+
+    static final int LIMITE_MAXIMO = 1000;
+
+    private final CambioRepositoryPort cambioRepository;
+    private final Duration margen;
+
+    public CambioUseCase(CambioRepositoryPort cambioRepository,
+                         @Value("${catalogo.cambios.margen:30s}") Duration margen,
+                         @Value("${catalogo.datasource.replica.enabled:false}") boolean lecturasEnReplica,
+                         @Value("${catalogo.datasource.replica.retraso-maximo:10s}") Duration retrasoMaximo,
+                         @Value("${catalogo.datasource.replica.comprobacion:5s}") Duration comprobacion) {
+        // El retraso solo se comprueba cada comprobacion: puede superar retraso-maximo entre dos
+        Duration retrasoTolerado = retrasoMaximo.plus(comprobacion);
+        if (lecturasEnReplica && margen.compareTo(retrasoTolerado) <= 0) {
+            throw new IllegalStateException("catalogo.cambios.margen (" + margen + ") debe superar el retraso"
+                    + " tolerado de la réplica (" + retrasoTolerado + "): /api/changes saltaría cambios");
+        }
+        this.cambioRepository = cambioRepository;
+        this.margen = margen;
+    }
+
+    /**
+     * Cambios posteriores a token (desde el principio si es null), hasta limite (máximo LIMITE_MAXIMO).
+     */
+    @Transactional(readOnly = true)
+    public CambiosDto listarDesde(String token, int limite) {
+        if (limite <= 0) {
+            throw new DomainException("El límite debe ser mayor que cero");
+        }
+        long desde = StringUtils.hasText(token) ? decodificar(token) : 0;
+        int tope = Math.min(limite, LIMITE_MAXIMO);
+
+        // Una fila de más para saber si quedan cambios sin otra consulta
+        List<Cambio> cambios = cambioRepository.listarDesde(desde, tope + 1, margen);
+        boolean hayMas = cambios.size() > tope;
+        if (hayMas) {
+            cambios = cambios.subList(0, tope);
+        }
+        long ultimo = cambios.isEmpty() ? desde : cambios.get(cambios.size() - 1).getId();
+
+        List<CambioDto> dtos = cambios.stream().map(CambioDto::fromDomain).collect(Collectors.toList());
+        return new CambiosDto(dtos, codificar(ultimo), hayMas);
+    }
+
+    static String codificar(long id) {
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(Long.toString(id).getBytes(StandardCharsets.UTF_8));
+    }
+
+    static long decodificar(String token) {
+        try {
+            long id = Long.parseLong(new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8));
+            if (id < 0) {
+                throw new DomainException("Token de cambios inválido");
+            }
+            return id;
+        } catch (IllegalArgumentException e) {
+            throw new DomainException("Token de cambios inválido", e);
+        }
+    }
+}
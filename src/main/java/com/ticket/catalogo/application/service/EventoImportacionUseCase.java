@@ -0,0 +1,181 @@
+package com.ticket.catalogo.application.service;
+
+import com.ticket.catalogo.application.DTO.FilaImportacionDto;
+import com.ticket.catalogo.application.DTO.ImportacionResultadoDto;
+import com.ticket.catalogo.application.port.out.CambioRepositoryPort;
+import com.ticket.catalogo.application.port.out.ClaveResumen;
+import com.ticket.catalogo.application.port.out.EventoRespositoryPort;
+import com.ticket.catalogo.application.port.out.ResumenEventosPort;
+import com.ticket.catalogo.application.port.out.VenueRepositoryPort;
+import com.ticket.catalogo.domain.model.Cambio;
+import com.ticket.catalogo.domain.model.Evento;
+import com.ticket.catalogo.domain.model.Venue;
+import com.ticket.catalogo.shared.exceptions.DomainException;
+import io.micrometer.core.annotation.Timed;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Importación masiva de eventos (p. ej. una temporada completa).
+ * - La entrada se procesa en lotes de batchSize filas; cada lote es una transacción.
+ * - Por lote: una consulta para validar todos sus venues, un INSERT por lotes JDBC y el
+ *   lote equivalente en el registro de cambios.
+ * - Las filas inválidas se informan y no frenan al resto; si falla la inserción de un lote,
+ *   se revierte entero y se informan como fallidas las filas que iban en el INSERT (las
+ *   rechazadas por validación o solapamiento conservan su motivo).
+ * - Cada lote se comprueba contra la agenda de sus venues, bajo el bloqueo de esos venues
+ *   (ReservaAgenda): las filas que chocan con un evento existente o con otra fila anterior se
+ *   informan como fallidas, y las insertadas quedan en la agenda antes de soltar el bloqueo.
+ */
+@Service
+@Timed("catalogo.casodeuso")
+public class EventoImportacionUseCase {
+
+    static final int BATCH_SIZE_MAXIMO = 5000;
+
+    private final EventoRespositoryPort eventoRepository;
+    private final VenueRepositoryPort venueRepository;
+    private final CambioRepositoryPort cambioRepository;
+    private final ReservaAgenda reserva;
+    private final ResumenEventosPort resumen;
+    private final TransactionTemplate transactionTemplate;
+    private final int batchSizePorDefecto;
+
+    public EventoImportacionUseCase(EventoRespositoryPort eventoRepository,
+                                    VenueRepositoryPort venueRepository,
+                                    CambioRepositoryPort cambioRepository,
+                                    ReservaAgenda reserva,
+                                    ResumenEventosPort resumen,
+                                    PlatformTransactionManager transactionManager,
+                                    @Value("${catalogo.importacion.batch-size:1000}") int batchSizePorDefecto) {
+        this.eventoRepository = eventoRepository;
+        this.venueRepository = venueRepository;
+        this.cambioRepository = cambioRepository;
+        this.reserva = reserva;
+        this.resumen = resumen;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.batchSizePorDefecto = batchSizePorDefecto;
+    }
+
+    /**
+     * Importa los eventos que entrega el iterador. Si next() lanza DomainException
+     * (p. ej. una línea con JSON inválido), esa fila se informa como fallida y se sigue con la siguiente.
+     */
+    public ImportacionResultadoDto importar(Iterator<Evento> eventos, Integer batchSize) {
+        int tamanoLote = resolverBatchSize(batchSize);
+        List<FilaImportacionDto> resultados = new ArrayList<>();
+        List<Evento> lote = new ArrayList<>(tamanoLote);
+        List<Integer> filasLote = new ArrayList<>(tamanoLote);
+        int fila = 0;
+
+        while (eventos.hasNext()) {
+            fila++;
+            try {
+                lote.add(eventos.next());
+                filasLote.add(fila);
+            } catch (DomainException e) {
+                resultados.add(FilaImportacionDto.error(fila, e.getMessage()));
+            }
+            if (lote.size() == tamanoLote) {
+                resultados.addAll(importarLote(lote, filasLote));
+                lote.clear();
+                filasLote.clear();
+            }
+        }
+        if (!lote.isEmpty()) {
+            resultados.addAll(importarLote(lote, filasLote));
+        }
+
+        resultados.sort((a, b) -> Integer.compare(a.getFila(), b.getFila()));
+        int importados = (int) resultados.stream().filter(r -> r.getError() == null).count();
+        return new ImportacionResultadoDto(fila, importados, fila - importados, resultados);
+    }
+
+    private List<FilaImportacionDto> importarLote(List<Evento> lote, List<Integer> filas) {
+        // Rechazos de validación y solapamiento: valen aunque el lote se revierta
+        List<FilaImportacionDto> rechazadas = new ArrayList<>();
+        List<FilaImportacionDto> importadas = new ArrayList<>(lote.size());
+        try {
+            transactionTemplate.executeWithoutResult(status -> {
+                Set<Long> venueIds = lote.stream()
+                        .map(Evento::getVenue)
+                        .filter(v -> v != null && v.getId() != null)
+                        .map(Venue::getId)
+                        .collect(Collectors.toSet());
+                Map<Long, Venue> venues = venueRepository.findAllById(venueIds).stream()
+                        .collect(Collectors.toMap(Venue::getId, Function.identity()));
+
+                List<Evento> validos = new ArrayList<>(lote.size());
+                List<Integer> filasValidas = new ArrayList<>(lote.size());
+                for (int i = 0; i < lote.size(); i++) {
+                    Evento evento = lote.get(i);
+                    try {
+                        ValidacionEvento.paraCrear(evento);
+                        Venue venue = venues.get(evento.getVenue().getId());
+                        if (venue == null) {
+                            throw new DomainException("Venue no encontrado con id: " + evento.getVenue().getId());
+                        }
+                        evento.setVenue(venue);
+                        validos.add(evento);
+                        filasValidas.add(filas.get(i));
+                    } catch (DomainException e) {
+                        rechazadas.add(FilaImportacionDto.error(filas.get(i), e.getMessage()));
+                    }
+                }
+
+                Set<Integer> solapadas = new HashSet<>();
+                List<Evento> insertados = reserva.reservarLote(validos, (i, motivo) -> {
+                    solapadas.add(i);
+                    rechazadas.add(FilaImportacionDto.error(filasValidas.get(i), motivo));
+                }, eventoRepository::insertAll);
+                cambioRepository.registrarAltas(Cambio.Entidad.EVENTO,
+                        insertados.stream().map(Evento::getId).collect(Collectors.toList()));
+                resumen.mover(Map.of(), insertados.stream()
+                        .collect(Collectors.toMap(Evento::getId, ClaveResumen::de)));
+                Iterator<Evento> insertado = insertados.iterator();
+                for (int i = 0; i < filasValidas.size(); i++) {
+                    if (!solapadas.contains(i)) {
+                        importadas.add(FilaImportacionDto.ok(filasValidas.get(i), insertado.next().getId()));
+                    }
+                }
+            });
+        } catch (DataAccessException e) {
+            // El lote se revirtió: ninguna de sus filas quedó insertada. Fallan las que no tenían
+            // ya un rechazo (si el error llegó antes de validarlas, todas)
+            String motivo = "Error al insertar el lote: " + e.getMostSpecificCause().getMessage();
+            Set<Integer> yaRechazadas = rechazadas.stream().map(FilaImportacionDto::getFila).collect(Collectors.toSet());
+            importadas.clear();
+            for (Integer f : filas) {
+                if (!yaRechazadas.contains(f)) {
+                    importadas.add(FilaImportacionDto.error(f, motivo));
+                }
+            }
+        }
+        List<FilaImportacionDto> resultados = new ArrayList<>(rechazadas.size() + importadas.size());
+        resultados.addAll(rechazadas);
+        resultados.addAll(importadas);
+        return resultados;
+    }
+
+    private int resolverBatchSize(Integer batchSize) {
+        if (batchSize == null) {
+            return batchSizePorDefecto;
+        }
+        if (batchSize <= 0) {
+            throw new DomainException("El tamaño de lote debe ser mayor que cero");
+        }
+        return Math.min(batchSize, BATCH_SIZE_MAXIMO);
+    }
+}
@@ -0,0 +1,167 @@
+package com.ticket.catalogo.application.service;
+
+import com.ticket.catalogo.application.DTO.TransicionEstadoResultadoDto;
+import com.ticket.catalogo.application.port.out.AgendaVenuePort;
+import com.ticket.catalogo.application.port.out.CambioRepositoryPort;
+import com.ticket.catalogo.application.port.out.ClaveResumen;
+import com.ticket.catalogo.application.port.out.EventoRespositoryPort;
+import com.ticket.catalogo.application.port.out.EventoSearchCriteria;
+import com.ticket.catalogo.application.port.out.ResumenEventosPort;
+import com.ticket.catalogo.shared.exceptions.DomainException;
+import io.micrometer.core.annotation.Timed;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.util.StringUtils;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Transiciones masivas de estado (p. ej. ACTIVO con fechaFin vencida → FINALIZADO) sin
+ * leer ni fusionar cada evento.
+ * - Los eventos se recorren por id en lotes de loteSize; cada lote es una transacción con
+ *   una lectura de ids sin bloqueos, el bloqueo de esas filas (con su clave en el resumen),
+ *   un UPDATE sobre esos ids, el delta del resumen y un INSERT ... SELECT en el registro de
+ *   cambios. Las filas quedan bloqueadas solo durante su lote.
+ * - El UPDATE vuelve a exigir los criterios: un evento modificado entre la lectura y el
+ *   UPDATE no se mueve si ya no los cumple.
+ * - La agenda de los venues sigue al estado: los eventos que pasan a CANCELADO liberan su
+ *   tramo; los que salen de CANCELADO vuelven a ocuparlo con la comprobación de solapamiento
+ *   (ReservaAgenda), y si alguno choca el lote se revierte y la transición se detiene.
+ * - Un lote que falla deja confirmados los anteriores; volver a lanzar la transición retoma
+ *   lo pendiente.
+ */
+@Service
+@Timed("catalogo.casodeuso")
+public class EventoTransicionUseCase {
+
+    static final int LOTE_MAXIMO = 5000;
+
+    private final EventoRespositoryPort eventoRepository;
+    private final CambioRepositoryPort cambioRepository;
+    private final ResumenEventosPort resumen;
+    private final AgendaVenuePort agenda;
+    private final ReservaAgenda reserva;
+    private final TransactionTemplate transactionTemplate;
+    private final int loteSize;
+
+    public EventoTransicionUseCase(EventoRespositoryPort eventoRepository,
+                                   CambioRepositoryPort cambioRepository,
+                                   ResumenEventosPort resumen,
+                                   AgendaVenuePort agenda,
+                                   ReservaAgenda reserva,
+                                   PlatformTransactionManager transactionManager,
+                                   @Value("${catalogo.transiciones.lote-size:500}") int loteSize) {
+        this.eventoRepository = eventoRepository;
+        this.cambioRepository = cambioRepository;
+        this.resumen = resumen;
+        this.agenda = agenda;
+        this.reserva = reserva;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.loteSize = Math.min(loteSize, LOTE_MAXIMO);
+    }
+
+    /**
+     * Mueve a estadoDestino todos los eventos que cumplen criteria. Exige al menos un filtro:
+     * una transición sin criterios afectaría al catálogo completo.
+     */
+    public TransicionEstadoResultadoDto transicionar(EventoSearchCriteria criteria, String estadoDestino) {
+        if (!StringUtils.hasText(estadoDestino)) {
+            throw new DomainException("El estado destino es obligatorio");
+        }
+        if (sinFiltros(criteria)) {
+            throw new DomainException("La transición requiere al menos un filtro");
+        }
+
+        long inicio = System.nanoTime();
+        long despuesDe = 0;
+        int actualizados = 0;
+        int lotes = 0;
+        long loteMaximo = 0;
+        while (true) {
+            long inicioLote = System.nanoTime();
+            long cursor = despuesDe;
+            Lote lote = transactionTemplate.execute(status -> {
+                List<Long> ids = eventoRepository.findIdsParaTransicion(criteria, estadoDestino, cursor, loteSize);
+                if (ids.isEmpty()) {
+                    return null;
+                }
+                Map<Long, ClaveResumen> antes = resumen.bloquear(ids);
+                int filas = eventoRepository.cambiarEstado(ids, criteria, estadoDestino);
+                if (filas > 0) {
+                    // Las filas siguen bloqueadas: las que no se movieron conservan su clave
+                    Map<Long, ClaveResumen> despues = resumen.bloquear(ids);
+                    resumen.mover(antes, despues);
+                    actualizarAgenda(antes, despues);
+                    cambioRepository.registrarCambiosDeEstado(ids, estadoDestino);
+                }
+                return new Lote(ids.get(ids.size() - 1), filas, ids.size() < loteSize);
+            });
+            if (lote == null) {
+                break;
+            }
+            lotes++;
+            actualizados += lote.filas;
+            loteMaximo = Math.max(loteMaximo, System.nanoTime() - inicioLote);
+            despuesDe = lote.ultimoId;
+            if (lote.ultimo) {
+                break;
+            }
+        }
+        return new TransicionEstadoResultadoDto(estadoDestino, actualizados, lotes,
+                loteMaximo / 1_000_000, (System.nanoTime() - inicio) / 1_000_000);
+    }
+
+    /**
+     * Eventos ACTIVO cuya fecha de fin ya pasó → FINALIZADO.
+     */
+    public TransicionEstadoResultadoDto finalizarTerminados(LocalDateTime ahora) {
+        EventoSearchCriteria criteria = EventoSearchCriteria.builder()
+                .estado("ACTIVO")
+                .fechaFinHasta(ahora)
+                .build();
+        return transicionar(criteria, "FINALIZADO");
+    }
+
+    private void actualizarAgenda(Map<Long, ClaveResumen> antes, Map<Long, ClaveResumen> despues) {
+        List<Long> reactivados = new ArrayList<>();
+        despues.forEach((id, clave) -> {
+            boolean cancelado = AgendaVenuePort.ESTADO_CANCELADO.equals(clave.getEstado());
+            boolean estabaCancelado = antes.containsKey(id)
+                    && AgendaVenuePort.ESTADO_CANCELADO.equals(antes.get(id).getEstado());
+            if (cancelado && !estabaCancelado) {
+                agenda.quitar(id);
+            } else if (!cancelado && estabaCancelado) {
+                reactivados.add(id);
+            }
+        });
+        if (!reactivados.isEmpty()) {
+            eventoRepository.findAllById(reactivados).forEach(reserva::reservar);
+        }
+    }
+
+    private static boolean sinFiltros(EventoSearchCriteria c) {
+        return c == null || (!StringUtils.hasText(c.getEstado())
+                && c.getFechaInicioDesde() == null
+                && c.getFechaFinHasta() == null
+                && c.getVenueId() == null
+                && !StringUtils.hasText(c.getCategoria())
+                && !StringUtils.hasText(c.getNombreLike()));
+    }
+
+    private static final class Lote {
+        final long ultimoId;
+        final int filas;
+        final boolean ultimo;
+
+        Lote(long ultimoId, int filas, boolean ultimo) {
+            this.ultimoId = ultimoId;
+            this.filas = filas;
+            this.ultimo = ultimo;
+        }
+    }
+}
@@ -1,40 +1,77 @@
 package com.ticket.catalogo.application.service;
 
+import com.ticket.catalogo.application.DTO.EventoDto;
+import com.ticket.catalogo.application.DTO.FacetasEventoDto;
+import com.ticket.catalogo.application.port.out.AgendaVenuePort;
+import com.ticket.catalogo.application.port.out.CambioRepositoryPort;
+import com.ticket.catalogo.application.port.out.ClaveResumen;
+import com.ticket.catalogo.application.port.out.EventoCursor;
 import com.ticket.catalogo.application.port.out.EventoRespositoryPort;
+import com.ticket.catalogo.application.port.out.EventoSearchCriteria;
+import com.ticket.catalogo.application.port.out.MarcaVersion;
+import com.ticket.catalogo.application.port.out.ResumenEventosPort;
 import com.ticket.catalogo.application.port.out.VenueRepositoryPort;
+import com.ticket.catalogo.domain.model.Cambio;
 import com.ticket.catalogo.domain.model.Evento;
 import com.ticket.catalogo.domain.model.Venue;
 
+import com.ticket.catalogo.shared.exceptions.ConflictoVersionException;
 import com.ticket.catalogo.shared.exceptions.DomainException;
+import io.micrometer.core.annotation.Timed;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.util.StringUtils;
 
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
-import java.util.stream.Collectors;
+import java.util.function.Consumer;
 
 /**
  * Caso de uso para operaciones sobre Evento.
  * - Validaciones de negocio
- * - Búsqueda con filtros básicos (delegar a infra para Specifications en grandes volúmenes)
+ * - Búsqueda paginada con filtros (delegada a infra mediante Specifications)
+ * - Cada alta, cambio y baja queda en el registro de cambios, en la misma transacción
+ * - Un evento no puede solaparse con otro del mismo venue: se comprueba contra la agenda en
+ *   memoria del venue (ReservaAgenda) después de escribir la fila; si choca, la excepción
+ *   revierte la escritura. Un evento CANCELADO no ocupa su venue: cancelarlo libera su tramo y
+ *   reactivarlo vuelve a comprobarlo
+ * - Los conteos por estado, venue y día (ResumenEventosPort) se mueven con el delta de cada
+ *   escritura, en la misma transacción. Para cambios y bajas, la clave anterior se lee
+ *   bloqueando la fila antes de escribirla
  */
 @Service
+@Timed("catalogo.casodeuso")
 public class EventoUseCase {
 
     private final EventoRespositoryPort eventoRepository;
     private final VenueRepositoryPort venueRepository;
+    private final CambioRepositoryPort cambioRepository;
+    private final AgendaVenuePort agenda;
+    private final ReservaAgenda reserva;
+    private final ResumenEventosPort resumen;
 
     public EventoUseCase(EventoRespositoryPort eventoRepository,
-                         VenueRepositoryPort venueRepository) {
+                         VenueRepositoryPort venueRepository,
+                         CambioRepositoryPort cambioRepository,
+                         AgendaVenuePort agenda,
+                         ReservaAgenda reserva,
+                         ResumenEventosPort resumen) {
         this.eventoRepository = eventoRepository;
         this.venueRepository = venueRepository;
+        this.cambioRepository = cambioRepository;
+        this.agenda = agenda;
+        this.reserva = reserva;
+        this.resumen = resumen;
     }
 
     @Transactional
     public Evento crearEvento(Evento evento) {
-        validarEventoParaCrear(evento);
+        ValidacionEvento.paraCrear(evento);
 
         Long venueId = Optional.ofNullable(evento.getVenue())
                 .map(Venue::getId)
@@ -46,39 +83,61 @@ public class EventoUseCase {
         // Asociar venue verificado
         evento.setVenue(venue);
 
-        // Reglas adicionales (ej. capacidad, solapamiento) pueden implementarse aquí o en un DomainService
-        return eventoRepository.save(evento);
+        // Reglas adicionales (ej. capacidad) pueden implementarse aquí o en un DomainService
+        Evento creado = eventoRepository.save(evento);
+        reserva.reservar(creado);
+        resumen.mover(Map.of(), Map.of(creado.getId(), ClaveResumen.de(creado)));
+        cambioRepository.registrar(Cambio.Entidad.EVENTO, creado.getId(), Cambio.Operacion.ALTA, creado.getVersion());
+        return creado;
     }
 
+    /**
+     * Actualización parcial en un solo UPDATE (sin leer antes el evento). Si cambios trae version,
+     * solo se aplica sobre esa versión; si no, gana la última escritura. Solo ante un fallo se
+     * consulta la versión actual para distinguir "no existe" de conflicto o fechas inválidas.
+     */
     @Transactional
     public Evento actualizarEvento(Long id, Evento cambios) {
         if (id == null) throw new DomainException("Id de evento requerido para actualizar");
 
-        Evento existente = eventoRepository.findById(id)
-                .orElseThrow(() -> new DomainException("Evento no encontrado con id: " + id));
-
-        if (StringUtils.hasText(cambios.getNombre())) {
-            existente.setNombre(cambios.getNombre());
-        }
-        if (cambios.getFechaInicio() != null) {
-            existente.setFechaInicio(cambios.getFechaInicio());
-        }
-        if (cambios.getFechaFin() != null) {
-            existente.setFechaFin(cambios.getFechaFin());
-        }
-        if (StringUtils.hasText(cambios.getEstado())) {
-            existente.setEstado(cambios.getEstado());
-        }
         if (cambios.getVenue() != null && cambios.getVenue().getId() != null) {
             Long newVenueId = cambios.getVenue().getId();
-            Venue venue = venueRepository.findById(newVenueId)
+            // Normalmente sale de la caché de venues, sin consulta
+            venueRepository.findById(newVenueId)
                     .orElseThrow(() -> new DomainException("Venue no encontrado con id: " + newVenueId));
-            existente.setVenue(venue);
+        }
+        // Con las dos fechas se valida aquí; con una sola, el UPDATE la compara con la guardada
+        ValidacionEvento.fechas(cambios.getFechaInicio(), cambios.getFechaFin());
+
+        // Solo estado, venue y fecha de inicio cuentan en el resumen; el resto no lee la clave
+        boolean mueveResumen = StringUtils.hasText(cambios.getEstado()) || cambios.getFechaInicio() != null
+                || (cambios.getVenue() != null && cambios.getVenue().getId() != null);
+        Map<Long, ClaveResumen> claveAnterior = mueveResumen ? resumen.bloquear(List.of(id)) : Map.of();
+
+        if (!eventoRepository.actualizarParcial(id, cambios.getVersion(), cambios)) {
+            Long actual = eventoRepository.findVersionById(id)
+                    .orElseThrow(() -> new DomainException("Evento no encontrado con id: " + id));
+            if (cambios.getVersion() != null && !cambios.getVersion().equals(actual)) {
+                throw new ConflictoVersionException("El evento " + id + " fue modificado: versión actual "
+                        + actual + ", recibida " + cambios.getVersion());
+            }
+            throw new DomainException("La fecha de inicio debe ser anterior o igual a la fecha fin");
         }
 
-        validarFechas(existente.getFechaInicio(), existente.getFechaFin());
-
-        return eventoRepository.save(existente);
+        Evento actualizado = eventoRepository.findById(id)
+                .orElseThrow(() -> new DomainException("Evento no encontrado con id: " + id));
+        // El estado también cuenta: un evento CANCELADO no ocupa su venue
+        boolean mueveOcupacion = cambios.getFechaInicio() != null || cambios.getFechaFin() != null
+                || StringUtils.hasText(cambios.getEstado())
+                || (cambios.getVenue() != null && cambios.getVenue().getId() != null);
+        if (mueveOcupacion) {
+            reserva.reservar(actualizado);
+        }
+        if (mueveResumen) {
+            resumen.mover(claveAnterior, Map.of(id, ClaveResumen.de(actualizado)));
+        }
+        cambioRepository.registrar(Cambio.Entidad.EVENTO, id, Cambio.Operacion.CAMBIO, actualizado.getVersion());
+        return actualizado;
     }
 
     @Transactional(readOnly = true)
@@ -87,83 +146,103 @@ public class EventoUseCase {
                 .orElseThrow(() -> new DomainException("Evento no encontrado con id: " + id));
     }
 
+    /**
+     * ETag/Last-Modified del evento sin cargarlo: GET condicional.
+     */
+    @Transactional(readOnly = true)
+    public MarcaVersion obtenerMarca(Long id) {
+        return eventoRepository.findMarcaById(id)
+                .orElseThrow(() -> new DomainException("Evento no encontrado con id: " + id));
+    }
+
+    /**
+     * Varios eventos por id en una sola consulta, en el orden pedido (sin duplicados).
+     * Los ids inexistentes se omiten.
+     */
+    @Transactional(readOnly = true)
+    public List<Evento> obtenerPorIds(List<Long> ids) {
+        return eventoRepository.findAllById(LoteDeIds.validar(ids));
+    }
+
     /**
      * Buscar eventos con filtros opcionales.
-     * - Para volúmenes pequeños/medios: delega a repository.findAll() o findByVenueId() y filtra en memoria.
-     * - Para volúmenes grandes: implementa en el puerto un método search(criteria) que use Specifications en infraestructura.
+     * - El filtrado, la paginación y el ordenamiento se delegan al puerto (Specifications en infraestructura),
+     *   de modo que solo viaja desde la BD la página solicitada.
+     * - Solo lectura: la página se proyecta directamente a EventoDto, sin pasar por entidades ni dominio.
      */
     @Transactional(readOnly = true)
-    public List<Evento> buscarEventos(String estado, LocalDateTime inicio, LocalDateTime fin, Long venueId) {
+    public Page<EventoDto> buscarEventos(EventoSearchCriteria criteria, Pageable pageable) {
+        if (criteria == null) {
+            criteria = EventoSearchCriteria.builder().build();
+        }
+        LocalDateTime inicio = criteria.getFechaInicioDesde();
+        LocalDateTime fin = criteria.getFechaFinHasta();
         if (inicio != null && fin != null && inicio.isAfter(fin)) {
             throw new DomainException("La fecha de inicio no puede ser posterior a la fecha fin");
         }
 
-        List<Evento> candidatos;
-        if (venueId != null) {
-            candidatos = eventoRepository.findByVenueId(venueId);
-        } else {
-            candidatos = eventoRepository.findAll();
-        }
-
-        return candidatos.stream()
-                .filter(e -> filterByEstado(e, estado))
-                .filter(e -> filterByFechaInicio(e, inicio))
-                .filter(e -> filterByFechaFin(e, fin))
-                .collect(Collectors.toList());
+        return eventoRepository.searchDto(criteria, pageable);
     }
 
-    @Transactional
-    public void eliminarEvento(Long id) {
-        if (id == null) {
-            throw new DomainException("Id de evento es obligatorio para eliminar");
+    /**
+     * Conteos por estado, categoría y venue de todos los eventos que cumplen los filtros,
+     * en una consulta agregada (cacheada junto con las páginas de la búsqueda).
+     */
+    @Transactional(readOnly = true)
+    public FacetasEventoDto contarFacetas(EventoSearchCriteria criteria) {
+        if (criteria == null) {
+            criteria = EventoSearchCriteria.builder().build();
         }
-
-        boolean existe = eventoRepository.findById(id).isPresent();
-        if (!existe) {
-            throw new DomainException("Evento no encontrado con id: " + id);
+        LocalDateTime inicio = criteria.getFechaInicioDesde();
+        LocalDateTime fin = criteria.getFechaFinHasta();
+        if (inicio != null && fin != null && inicio.isAfter(fin)) {
+            throw new DomainException("La fecha de inicio no puede ser posterior a la fecha fin");
         }
 
-        eventoRepository.deleteById(id);
+        return eventoRepository.contarFacetas(criteria);
     }
 
-
-    /* -------------------------
-       Validaciones privadas
-       ------------------------- */
-    private void validarEventoParaCrear(Evento evento) {
-        if (evento == null) throw new DomainException("Evento no puede ser nulo");
-        if (!StringUtils.hasText(evento.getNombre())) {
-            throw new DomainException("El nombre del evento es obligatorio");
-        }
-        if (evento.getVenue() == null || evento.getVenue().getId() == null) {
-            throw new DomainException("El venue (con id) es obligatorio");
+    /**
+     * Búsqueda por cursor: cada página cuesta lo mismo sin importar su profundidad.
+     */
+    @Transactional(readOnly = true)
+    public Slice<Evento> buscarEventosDesde(EventoSearchCriteria criteria, EventoCursor cursor, int size) {
+        if (criteria == null) {
+            criteria = EventoSearchCriteria.builder().build();
         }
-        validarFechas(evento.getFechaInicio(), evento.getFechaFin());
-    }
-
-    private void validarFechas(LocalDateTime inicio, LocalDateTime fin) {
-        if (inicio == null || fin == null) {
-            return; // si tu regla exige ambas fechas, lanza excepción aquí
+        LocalDateTime inicio = criteria.getFechaInicioDesde();
+        LocalDateTime fin = criteria.getFechaFinHasta();
+        if (inicio != null && fin != null && inicio.isAfter(fin)) {
+            throw new DomainException("La fecha de inicio no puede ser posterior a la fecha fin");
         }
-        if (inicio.isAfter(fin)) {
-            throw new DomainException("La fecha de inicio debe ser anterior o igual a la fecha fin");
+        if (size <= 0) {
+            throw new DomainException("El tamaño de página debe ser mayor que cero");
         }
-    }
 
-    private boolean filterByEstado(Evento e, String estado) {
-        if (!StringUtils.hasText(estado)) return true;
-        return estado.equalsIgnoreCase(Optional.ofNullable(e.getEstado()).orElse(""));
+        return eventoRepository.searchAfter(criteria, cursor, size);
     }
 
-    private boolean filterByFechaInicio(Evento e, LocalDateTime inicio) {
-        if (inicio == null) return true;
-        LocalDateTime fechaInicioEvento = e.getFechaInicio();
-        return fechaInicioEvento != null && !fechaInicioEvento.isBefore(inicio);
+    /**
+     * Recorre el catálogo completo para exportarlo. La transacción de solo lectura mantiene
+     * abierto el cursor mientras el consumidor escribe cada evento.
+     */
+    @Transactional(readOnly = true)
+    public void exportarEventos(Consumer<Evento> consumidor) {
+        eventoRepository.forEach(consumidor);
     }
 
-    private boolean filterByFechaFin(Evento e, LocalDateTime fin) {
-        if (fin == null) return true;
-        LocalDateTime fechaFinEvento = e.getFechaFin();
-        return fechaFinEvento != null && !fechaFinEvento.isAfter(fin);
+    @Transactional
+    public void eliminarEvento(Long id) {
+        if (id == null) {
+            throw new DomainException("Id de evento es obligatorio para eliminar");
+        }
+
+        Map<Long, ClaveResumen> claveAnterior = resumen.bloquear(List.of(id));
+        if (!eventoRepository.deleteById(id)) {
+            throw new DomainException("Evento no encontrado con id: " + id);
+        }
+        agenda.quitar(id);
+        resumen.mover(claveAnterior, Map.of());
+        cambioRepository.registrar(Cambio.Entidad.EVENTO, id, Cambio.Operacion.BAJA, null);
     }
 }
@@ -0,0 +1,34 @@
+package com.ticket.catalogo.application.service;
+
+import com.ticket.catalogo.shared.exceptions.DomainException;
+
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * Validación común de las lecturas por lote (GET ?ids=): al menos un id, sin nulos y como máximo
+ * MAXIMO ids distintos. Devuelve los ids sin repetir, en el orden de la petición.
+ */
+final class LoteDeIds {
+
+    static final int MAXIMO = 100;
+
+    private LoteDeIds() {
+    }
+
+    static Set<Long> validar(List<Long> ids) {
+        if (ids == null || ids.isEmpty()) {
+            throw new DomainException("Debe indicar al menos un id");
+        }
+        if (ids.stream().anyMatch(Objects::isNull)) {
+            throw new DomainException("La lista de ids contiene valores nulos");
+        }
+        Set<Long> unicos = new LinkedHashSet<>(ids);
+        if (unicos.size() > MAXIMO) {
+            throw new DomainException("Se permiten como máximo " + MAXIMO + " ids por petición");
+        }
+        return unicos;
+    }
+}
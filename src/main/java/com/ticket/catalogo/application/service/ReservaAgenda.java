@@ -0,0 +1,131 @@
+package com.ticket.catalogo.application.service;
+
+import com.ticket.catalogo.application.port.out.AgendaVenuePort;
+import com.ticket.catalogo.domain.model.Evento;
+import com.ticket.catalogo.shared.exceptions.SolapamientoException;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.function.BiConsumer;
+import java.util.function.UnaryOperator;
+import java.util.stream.Collectors;
+
+/**
+ * Ocupación de tramos en la agenda de los venues (AgendaVenuePort) para el alta y los cambios
+ * de eventos, las transiciones de estado y la importación: la comprobación de solapamiento y
+ * el registro se hacen bajo el bloqueo del venue, así dos escrituras de esta instancia no
+ * toman el mismo tramo. El bloqueo es de esta instancia: entre instancias la agenda se
+ * sincroniza por TTL (ver AgendaVenueCache). Las agendas se cargan antes de tomar el bloqueo.
+ * - Los eventos que no ocupan su venue (sin fechas o CANCELADO) solo se registran: la agenda los quita.
+ */
+@Component
+class ReservaAgenda {
+
+    private static final int FRANJAS_DE_BLOQUEO = 64;
+
+    private final AgendaVenuePort agenda;
+    private final BloqueosPorVenue bloqueos = new BloqueosPorVenue(FRANJAS_DE_BLOQUEO);
+
+    ReservaAgenda(AgendaVenuePort agenda) {
+        this.agenda = agenda;
+    }
+
+    /**
+     * Ubica un evento ya escrito en la transacción en curso. Si choca con otro evento del venue
+     * lanza SolapamientoException, que revierte la escritura.
+     */
+    void reservar(Evento evento) {
+        if (!AgendaVenuePort.ocupaVenue(evento)) {
+            agenda.registrar(evento);
+            return;
+        }
+        Long venueId = evento.getVenue().getId();
+        agenda.cargar(List.of(venueId));
+        bloqueos.conBloqueo(venueId, () -> {
+            agenda.buscarSolapado(venueId, evento.getFechaInicio(), evento.getFechaFin(), evento.getId())
+                    .ifPresent(otro -> {
+                        throw new SolapamientoException("El venue " + venueId + " ya tiene el evento "
+                                + otro.getEventoId() + " entre " + otro.getInicio() + " y " + otro.getFin());
+                    });
+            agenda.registrar(evento);
+            return null;
+        });
+    }
+
+    /**
+     * Alta de un lote de eventos nuevos (sin id) bajo el bloqueo de todos sus venues: los que
+     * chocan con la agenda o con uno anterior del mismo lote se descartan (rechazar recibe su
+     * posición en eventos y el motivo); el resto se inserta con insertar y se registra en la
+     * agenda antes de soltar los bloqueos. Devuelve lo que devuelve insertar.
+     */
+    List<Evento> reservarLote(List<Evento> eventos, BiConsumer<Integer, String> rechazar,
+                              UnaryOperator<List<Evento>> insertar) {
+        Set<Long> venueIds = eventos.stream()
+                .filter(AgendaVenuePort::ocupaVenue)
+                .map(e -> e.getVenue().getId())
+                .collect(Collectors.toSet());
+        agenda.cargar(venueIds);
+        return bloqueos.conBloqueos(venueIds, () -> {
+            Map<Long, TramosDelLote> delLote = new HashMap<>();
+            List<Evento> libres = new ArrayList<>(eventos.size());
+            for (int i = 0; i < eventos.size(); i++) {
+                Evento evento = eventos.get(i);
+                if (AgendaVenuePort.ocupaVenue(evento)) {
+                    Long venueId = evento.getVenue().getId();
+                    String choque = agenda.buscarSolapado(venueId, evento.getFechaInicio(), evento.getFechaFin(), null)
+                            .map(otro -> "El venue " + venueId + " ya tiene el evento " + otro.getEventoId()
+                                    + " entre " + otro.getInicio() + " y " + otro.getFin())
+                            .orElse(null);
+                    if (choque == null && !delLote.computeIfAbsent(venueId, k -> new TramosDelLote())
+                            .ocupar(evento.getFechaInicio(), evento.getFechaFin())) {
+                        choque = "Se solapa en el venue " + venueId + " con otra fila de la importación";
+                    }
+                    if (choque != null) {
+                        rechazar.accept(i, choque);
+                        continue;
+                    }
+                }
+                libres.add(evento);
+            }
+            List<Evento> insertados = insertar.apply(libres);
+            insertados.forEach(agenda::registrar);
+            return insertados;
+        });
+    }
+
+    /**
+     * Tramos que ya tomaron las filas anteriores del lote en un venue, con la misma regla de
+     * solapamiento que la agenda (semiabiertos). Los tramos con duración son disjuntos entre sí:
+     * basta mirar el de mayor inicio antes del fin del nuevo. Los de duración cero no chocan
+     * entre ellos y van aparte.
+     */
+    private static final class TramosDelLote {
+        private final TreeMap<LocalDateTime, LocalDateTime> tramos = new TreeMap<>();
+        private final TreeSet<LocalDateTime> puntos = new TreeSet<>();
+
+        boolean ocupar(LocalDateTime inicio, LocalDateTime fin) {
+            Entry<LocalDateTime, LocalDateTime> previo = tramos.lowerEntry(fin);
+            if (previo != null && previo.getValue().isAfter(inicio)) {
+                return false;
+            }
+            if (!fin.isAfter(inicio)) {
+                puntos.add(inicio);
+                return true;
+            }
+            LocalDateTime punto = puntos.higher(inicio);
+            if (punto != null && punto.isBefore(fin)) {
+                return false;
+            }
+            tramos.put(inicio, fin);
+            return true;
+        }
+    }
+}
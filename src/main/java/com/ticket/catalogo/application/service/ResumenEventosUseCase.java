@@ -0,0 +1,108 @@
+package com.ticket.catalogo.application.service;
+
+import com.ticket.catalogo.application.DTO.EstadisticasEventosDto;
+import com.ticket.catalogo.application.port.out.ConteoResumen;
+import com.ticket.catalogo.application.port.out.ResumenEventosPort;
+import com.ticket.catalogo.shared.exceptions.DomainException;
+import io.micrometer.core.annotation.Timed;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Conteos de eventos por estado, venue y día de inicio.
+ * - Se leen del resumen (ResumenEventosPort), que EventoUseCase y el resto de escrituras de
+ *   eventos mantienen con deltas en su propia transacción: la consulta no depende del tamaño
+ *   de evento.
+ * - conciliar() recalcula los conteos con GROUP BY y corrige las diferencias (p. ej. filas
+ *   tocadas por fuera de la aplicación).
+ */
+@Service
+@Timed("catalogo.casodeuso")
+public class ResumenEventosUseCase {
+
+    static final int DIAS_MAXIMOS = 366;
+    static final int DIAS_POR_DEFECTO = 30;
+
+    private final ResumenEventosPort resumen;
+    private final TransactionTemplate lectura;
+    private final TransactionTemplate escritura;
+
+    public ResumenEventosUseCase(ResumenEventosPort resumen, PlatformTransactionManager transactionManager) {
+        this.resumen = resumen;
+        this.lectura = new TransactionTemplate(transactionManager);
+        this.lectura.setReadOnly(true);
+        this.escritura = new TransactionTemplate(transactionManager);
+    }
+
+    /**
+     * Total, conteos por estado y por venue, y por día de inicio en [desde, hasta)
+     * (por defecto, los próximos 30 días).
+     */
+    @Transactional(readOnly = true)
+    public EstadisticasEventosDto estadisticas(LocalDate desde, LocalDate hasta) {
+        LocalDate inicio = desde != null ? desde : LocalDate.now();
+        LocalDate fin = hasta != null ? hasta : inicio.plusDays(DIAS_POR_DEFECTO);
+        if (!inicio.isBefore(fin)) {
+            throw new DomainException("La ventana requiere desde anterior a hasta");
+        }
+        if (fin.toEpochDay() - inicio.toEpochDay() > DIAS_MAXIMOS) {
+            throw new DomainException("La ventana no puede superar " + DIAS_MAXIMOS + " días");
+        }
+
+        long total = 0;
+        Map<String, Long> porEstado = new TreeMap<>();
+        Map<Long, Long> porVenue = new TreeMap<>();
+        Map<LocalDate, Long> porDia = new TreeMap<>();
+        for (ConteoResumen conteo : resumen.leer(inicio, fin)) {
+            switch (conteo.getDimension()) {
+                case TOTAL -> total = conteo.getTotal();
+                case ESTADO -> porEstado.put(conteo.getClave(), conteo.getTotal());
+                case VENUE -> porVenue.put(Long.valueOf(conteo.getClave()), conteo.getTotal());
+                case DIA -> porDia.put(LocalDate.parse(conteo.getClave()), conteo.getTotal());
+            }
+        }
+        return new EstadisticasEventosDto(total, porEstado, porVenue, inicio, fin, porDia);
+    }
+
+    /**
+     * Compara el resumen con los conteos reales y suma la diferencia; devuelve cuántos conteos
+     * se corrigieron. Ambas lecturas van en una misma transacción (la misma instantánea), así que
+     * la diferencia es exacta en ese punto; se aplica como delta, por lo que los cambios
+     * confirmados mientras tanto siguen contando.
+     */
+    public int conciliar() {
+        List<ConteoResumen> correcciones = lectura.execute(status ->
+                diferencias(resumen.contarEventos(), resumen.leerTodo()));
+        if (!correcciones.isEmpty()) {
+            escritura.executeWithoutResult(status -> resumen.corregir(correcciones));
+        }
+        return correcciones.size();
+    }
+
+    static List<ConteoResumen> diferencias(List<ConteoResumen> reales, List<ConteoResumen> registrados) {
+        Map<ConteoResumen.Dimension, Map<String, Long>> deltas = new EnumMap<>(ConteoResumen.Dimension.class);
+        for (ConteoResumen real : reales) {
+            deltas.computeIfAbsent(real.getDimension(), d -> new HashMap<>())
+                    .merge(real.getClave(), real.getTotal(), Long::sum);
+        }
+        for (ConteoResumen registrado : registrados) {
+            deltas.computeIfAbsent(registrado.getDimension(), d -> new HashMap<>())
+                    .merge(registrado.getClave(), -registrado.getTotal(), Long::sum);
+        }
+        List<ConteoResumen> correcciones = new ArrayList<>();
+        deltas.forEach((dimension, porClave) -> porClave.forEach((clave, delta) -> {
+            if (delta != 0) correcciones.add(new ConteoResumen(dimension, clave, delta));
+        }));
+        return correcciones;
+    }
+}
@@ -0,0 +1,38 @@
+package com.ticket.catalogo.application.service;
+
+import com.ticket.catalogo.domain.model.Evento;
+import com.ticket.catalogo.shared.exceptions.DomainException;
+import org.springframework.util.StringUtils;
+
+import java.time.LocalDateTime;
+
+/**
+ * Reglas de un evento que se da de alta, compartidas por el alta individual (EventoUseCase)
+ * y la importación masiva (EventoImportacionUseCase). Solo miran el propio evento: la
+ * existencia del venue y los solapamientos los comprueba cada caso de uso.
+ */
+final class ValidacionEvento {
+
+    private ValidacionEvento() {
+    }
+
+    static void paraCrear(Evento evento) {
+        if (evento == null) throw new DomainException("Evento no puede ser nulo");
+        if (!StringUtils.hasText(evento.getNombre())) {
+            throw new DomainException("El nombre del evento es obligatorio");
+        }
+        if (evento.getVenue() == null || evento.getVenue().getId() == null) {
+            throw new DomainException("El venue (con id) es obligatorio");
+        }
+        fechas(evento.getFechaInicio(), evento.getFechaFin());
+    }
+
+    static void fechas(LocalDateTime inicio, LocalDateTime fin) {
+        if (inicio == null || fin == null) {
+            return; // si tu regla exige ambas fechas, lanza excepción aquí
+        }
+        if (inicio.isAfter(fin)) {
+            throw new DomainException("La fecha de inicio debe ser anterior o igual a la fecha fin");
+        }
+    }
+}
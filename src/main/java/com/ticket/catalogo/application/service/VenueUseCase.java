@@ -1,15 +1,30 @@
 package com.ticket.catalogo.application.service;
 
+import com.ticket.catalogo.application.DTO.DisponibilidadDto;
+import com.ticket.catalogo.application.port.out.AgendaVenuePort;
+import com.ticket.catalogo.application.port.out.CambioRepositoryPort;
+import com.ticket.catalogo.application.port.out.IntervaloEvento;
+import com.ticket.catalogo.application.port.out.MarcaVersion;
+import com.ticket.catalogo.application.port.out.ResumenEventosPort;
 import com.ticket.catalogo.application.port.out.VenueRepositoryPort;
+import com.ticket.catalogo.domain.model.Cambio;
 import com.ticket.catalogo.domain.model.Venue;
 
+import com.ticket.catalogo.shared.exceptions.ConflictoVersionException;
 import com.ticket.catalogo.shared.exceptions.DomainException;
+import io.micrometer.core.annotation.Timed;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.util.StringUtils;
 
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.BitSet;
 import java.util.List;
-import java.util.Optional;
 
 /**
  * Caso de uso para operaciones sobre Venue.
@@ -17,39 +32,54 @@ import java.util.Optional;
  * - Orquesta persistencia a través del puerto VenueRepositoryPort
  */
 @Service
+@Timed("catalogo.casodeuso")
 public class VenueUseCase {
 
+    static final Duration VENTANA_MAXIMA = Duration.ofDays(366);
+
     private final VenueRepositoryPort venueRepository;
+    private final CambioRepositoryPort cambioRepository;
+    private final AgendaVenuePort agenda;
+    private final ResumenEventosPort resumen;
 
-    public VenueUseCase(VenueRepositoryPort venueRepository) {
+    public VenueUseCase(VenueRepositoryPort venueRepository, CambioRepositoryPort cambioRepository,
+                        AgendaVenuePort agenda, ResumenEventosPort resumen) {
         this.venueRepository = venueRepository;
+        this.cambioRepository = cambioRepository;
+        this.agenda = agenda;
+        this.resumen = resumen;
     }
 
     @Transactional
     public Venue crearVenue(Venue venue) {
         validarVenueParaCrear(venue);
-        return venueRepository.save(venue);
+        Venue creado = venueRepository.save(venue);
+        cambioRepository.registrar(Cambio.Entidad.VENUE, creado.getId(), Cambio.Operacion.ALTA, creado.getVersion());
+        return creado;
     }
 
+    /**
+     * Actualización parcial en un solo UPDATE (sin leer antes el venue), con la misma regla de
+     * versión que EventoUseCase.actualizarEvento.
+     */
     @Transactional
     public Venue actualizarVenue(Long id, Venue cambios) {
         if (id == null) throw new DomainException("Id de venue requerido para actualizar");
-
-        Venue existente = venueRepository.findById(id)
-                .orElseThrow(() -> new DomainException("Venue no encontrado con id: " + id));
-
-        if (StringUtils.hasText(cambios.getNombre())) {
-            existente.setNombre(cambios.getNombre());
+        if (cambios.getCapacidad() != null && cambios.getCapacidad() < 0) {
+            throw new DomainException("Capacidad inválida");
         }
-        if (cambios.getCapacidad() != null) {
-            if (cambios.getCapacidad() < 0) throw new DomainException("Capacidad inválida");
-            existente.setCapacidad(cambios.getCapacidad());
-        }
-        if (StringUtils.hasText(cambios.getUbicacion())) {
-            existente.setUbicacion(cambios.getUbicacion());
+
+        if (!venueRepository.actualizarParcial(id, cambios.getVersion(), cambios)) {
+            Long actual = venueRepository.findVersionById(id)
+                    .orElseThrow(() -> new DomainException("Venue no encontrado con id: " + id));
+            throw new ConflictoVersionException("El venue " + id + " fue modificado: versión actual "
+                    + actual + ", recibida " + cambios.getVersion());
         }
 
-        return venueRepository.save(existente);
+        Venue actualizado = venueRepository.findById(id)
+                .orElseThrow(() -> new DomainException("Venue no encontrado con id: " + id));
+        cambioRepository.registrar(Cambio.Entidad.VENUE, id, Cambio.Operacion.CAMBIO, actualizado.getVersion());
+        return actualizado;
     }
 
     @Transactional(readOnly = true)
@@ -58,19 +88,104 @@ public class VenueUseCase {
                 .orElseThrow(() -> new DomainException("Venue no encontrado con id: " + id));
     }
 
+    /**
+     * ETag/Last-Modified del venue sin cargarlo (desde la caché si está): GET condicional.
+     */
+    @Transactional(readOnly = true)
+    public MarcaVersion obtenerMarca(Long id) {
+        return venueRepository.findMarcaById(id)
+                .orElseThrow(() -> new DomainException("Venue no encontrado con id: " + id));
+    }
+
+    /**
+     * Varios venues por id (caché primero, el resto en una sola consulta), en el orden pedido.
+     */
+    @Transactional(readOnly = true)
+    public List<Venue> obtenerPorIds(List<Long> ids) {
+        return venueRepository.findAllById(LoteDeIds.validar(ids));
+    }
+
+    /**
+     * Listado paginado de venues (filtros opcionales por prefijo de nombre y ubicación).
+     * Se resuelve con una proyección: solo viajan las columnas del venue.
+     */
+    @Transactional(readOnly = true)
+    public Page<Venue> listarTodos(String nombre, String ubicacion, Pageable pageable) {
+        return venueRepository.listar(nombre, ubicacion, pageable);
+    }
+
     @Transactional(readOnly = true)
-    public List<Venue> listarTodos() {
-        return venueRepository.findAll();
+    public Page<Venue> buscarPorNombre(String texto, Pageable pageable) {
+        if (!StringUtils.hasText(texto)) {
+            throw new DomainException("El texto de búsqueda es obligatorio");
+        }
+        return venueRepository.buscarPorNombre(texto, pageable);
     }
 
     @Transactional
     public void eliminarVenue(Long id) {
         // Validación: si existen eventos asociados, la regla puede ser impedir borrado o permitir cascade.
         // Aquí delegamos la regla a la infraestructura o asumimos que la BD maneja ON DELETE CASCADE.
-        if (!venueRepository.findById(id).isPresent()) {
+        if (id == null) {
+            throw new DomainException("Id de venue es obligatorio para eliminar");
+        }
+        // Antes del DELETE: la FK borra los eventos en cascada y ya no se podrían listar ni restar.
+        // Si el venue no existe, el rollback descarta también estas filas.
+        cambioRepository.registrarBajasDeEventosDelVenue(id);
+        resumen.restarEventosDelVenue(id);
+        if (!venueRepository.deleteById(id)) {
             throw new DomainException("Venue no encontrado con id: " + id);
         }
-        venueRepository.deleteById(id);
+        cambioRepository.registrar(Cambio.Entidad.VENUE, id, Cambio.Operacion.BAJA, null);
+        agenda.invalidarVenue(id);
+    }
+
+    /**
+     * Eventos del venue que lo ocupan en [desde, hasta), ordenados por inicio. Sale de la agenda
+     * en memoria del venue (una consulta de id y fechas la primera vez), sin leer los eventos.
+     * Sin transacción: una de solo lectura haría que la agenda se leyera de la réplica y no se
+     * guardara (ver AgendaVenueCache); así se carga del primario y queda en memoria.
+     */
+    public List<IntervaloEvento> agenda(Long id, LocalDateTime desde, LocalDateTime hasta) {
+        if (desde == null || hasta == null || !desde.isBefore(hasta)) {
+            throw new DomainException("La ventana requiere desde anterior a hasta");
+        }
+        if (Duration.between(desde, hasta).compareTo(VENTANA_MAXIMA) > 0) {
+            throw new DomainException("La ventana no puede superar " + VENTANA_MAXIMA.toDays() + " días");
+        }
+        venueRepository.findById(id)
+                .orElseThrow(() -> new DomainException("Venue no encontrado con id: " + id));
+        return agenda.enVentana(id, desde, hasta);
+    }
+
+    /**
+     * Días libres y ocupados del venue en [desde, hasta) (por defecto, los próximos 12 meses),
+     * leídos del calendario de ocupación en memoria: operaciones de bits, sin consultar eventos.
+     * Sin transacción, como agenda.
+     */
+    public DisponibilidadDto disponibilidad(Long id, LocalDate desde, LocalDate hasta) {
+        LocalDate inicio = desde != null ? desde : LocalDate.now();
+        LocalDate fin = hasta != null ? hasta : inicio.plusYears(1);
+        if (!inicio.isBefore(fin)) {
+            throw new DomainException("La ventana requiere desde anterior a hasta");
+        }
+        int dias = (int) (fin.toEpochDay() - inicio.toEpochDay());
+        if (dias > VENTANA_MAXIMA.toDays()) {
+            throw new DomainException("La ventana no puede superar " + VENTANA_MAXIMA.toDays() + " días");
+        }
+        venueRepository.findById(id)
+                .orElseThrow(() -> new DomainException("Venue no encontrado con id: " + id));
+
+        BitSet ocupados = agenda.diasOcupados(id, inicio, fin);
+        char[] ocupacion = new char[dias];
+        List<LocalDate> libres = new ArrayList<>(dias - ocupados.cardinality());
+        for (int i = 0; i < dias; i++) {
+            ocupacion[i] = ocupados.get(i) ? '1' : '0';
+        }
+        for (int i = ocupados.nextClearBit(0); i < dias; i = ocupados.nextClearBit(i + 1)) {
+            libres.add(inicio.plusDays(i));
+        }
+        return new DisponibilidadDto(id, inicio, fin, new String(ocupacion), libres);
     }
 
     /* -------------------------
@@ -0,0 +1,81 @@
+package com.ticket.catalogo.domain.model;
+
+import java.time.Instant;
+
+/**
+ * Entrada del registro de cambios del catálogo: qué entidad cambió, cómo y con qué versión.
+ * El id es creciente y sirve de posición para sincronizar de forma incremental.
+ */
+public class Cambio {
+
+    public enum Entidad { EVENTO, VENUE }
+
+    public enum Operacion { ALTA, CAMBIO, BAJA }
+
+    private Long id;
+    private Entidad entidad;
+    private Long entidadId;
+    private Operacion operacion;
+    private Long version;
+    private Instant registradoEn;
+
+    public Cambio(Long id, Entidad entidad, Long entidadId, Operacion operacion, Long version, Instant registradoEn) {
+        this.id = id;
+        this.entidad = entidad;
+        this.entidadId = entidadId;
+        this.operacion = operacion;
+        this.version = version;
+        this.registradoEn = registradoEn;
+    }
+
+    public Cambio() {
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public void setId(Long id) {
+        this.id = id;
+    }
+
+    public Entidad getEntidad() {
+        return entidad;
+    }
+
+    public void setEntidad(Entidad entidad) {
+        this.entidad = entidad;
+    }
+
+    public Long getEntidadId() {
+        return entidadId;
+    }
+
+    public void setEntidadId(Long entidadId) {
+        this.entidadId = entidadId;
+    }
+
+    public Operacion getOperacion() {
+        return operacion;
+    }
+
+    public void setOperacion(Operacion operacion) {
+        this.operacion = operacion;
+    }
+
+    public Long getVersion() {
+        return version;
+    }
+
+    public void setVersion(Long version) {
+        this.version = version;
+    }
+
+    public Instant getRegistradoEn() {
+        return registradoEn;
+    }
+
+    public void setRegistradoEn(Instant registradoEn) {
+        this.registradoEn = registradoEn;
+    }
+}
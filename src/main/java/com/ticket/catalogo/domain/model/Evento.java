@@ -1,6 +1,7 @@
 // domain/model/Evento.java
 package com.ticket.catalogo.domain.model;
 
+import java.time.Instant;
 import java.time.LocalDateTime;
 
 public class Evento {
@@ -9,7 +10,10 @@ public class Evento {
     private LocalDateTime fechaInicio;
     private LocalDateTime fechaFin;
     private String estado;
+    private String categoria;
     private Venue venue;
+    private Long version;
+    private Instant actualizadoEn;
 
     public Evento(Long id, String nombre, LocalDateTime fechaInicio, LocalDateTime fechaFin, String estado, Venue venue) {
         this.id = id;
@@ -64,6 +68,14 @@ public class Evento {
         this.estado = estado;
     }
 
+    public String getCategoria() {
+        return categoria;
+    }
+
+    public void setCategoria(String categoria) {
+        this.categoria = categoria;
+    }
+
     public Venue getVenue() {
         return venue;
     }
@@ -71,4 +83,20 @@ public class Evento {
     public void setVenue(Venue venue) {
         this.venue = venue;
     }
+
+    public Long getVersion() {
+        return version;
+    }
+
+    public void setVersion(Long version) {
+        this.version = version;
+    }
+
+    public Instant getActualizadoEn() {
+        return actualizadoEn;
+    }
+
+    public void setActualizadoEn(Instant actualizadoEn) {
+        this.actualizadoEn = actualizadoEn;
+    }
 }
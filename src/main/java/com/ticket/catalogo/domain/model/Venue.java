@@ -1,5 +1,6 @@
 package com.ticket.catalogo.domain.model;
 
+import java.time.Instant;
 import java.util.List;
 
 public class Venue {
@@ -8,6 +9,8 @@ public class Venue {
     private String nombre;
     private Integer capacidad;
     private String ubicacion;
+    private Long version;
+    private Instant actualizadoEn;
     private List<Evento> eventos;
     // getters, setters, constructores
 
@@ -63,4 +66,20 @@ public class Venue {
     public void setEventos(List<Evento> eventos) {
         this.eventos = eventos;
     }
+
+    public Long getVersion() {
+        return version;
+    }
+
+    public void setVersion(Long version) {
+        this.version = version;
+    }
+
+    public Instant getActualizadoEn() {
+        return actualizadoEn;
+    }
+
+    public void setActualizadoEn(Instant actualizadoEn) {
+        this.actualizadoEn = actualizadoEn;
+    }
 }
@@ -0,0 +1,10 @@
+package com.ticket.catalogo.shared.exceptions;
+
+/**
+ * La versión enviada por el cliente ya no es la actual: otro cambio se guardó antes.
+ */
+public class ConflictoVersionException extends DomainException {
+    public ConflictoVersionException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,10 @@
+package com.ticket.catalogo.shared.exceptions;
+
+/**
+ * El evento ocuparía su venue en un tramo que ya tiene otro evento.
+ */
+public class SolapamientoException extends DomainException {
+    public SolapamientoException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,42 @@
+-- V10__evento_view.sql
+-- Modelo de lectura de eventos: cada fila de evento con los campos de su venue copiados
+-- (nombre, version, actualizado_en). /search, /search/scroll, las facetas y GET por id leen
+-- solo de aquí: consultas sobre una tabla, sin JOIN a venue.
+-- - La mantiene la capa de persistencia en la misma transacción que cada escritura de evento
+--   (INSERT ... SELECT ... ON DUPLICATE KEY UPDATE desde evento JOIN venue) y de venue
+--   (UPDATE de todas las filas del venue).
+-- - Las bajas las hace la FK: borrar un evento, o un venue con sus eventos, borra sus filas.
+-- - actualizado_en y venue_actualizado_en son copias: sin DEFAULT ni ON UPDATE propios.
+
+CREATE TABLE evento_view (
+    id BIGINT NOT NULL,
+    nombre VARCHAR(255),
+    fecha_inicio DATETIME,
+    fecha_fin DATETIME,
+    estado VARCHAR(50),
+    categoria VARCHAR(100),
+    version BIGINT NOT NULL,
+    actualizado_en TIMESTAMP NULL,
+    venue_id BIGINT NOT NULL,
+    venue_nombre VARCHAR(255),
+    venue_version BIGINT NOT NULL,
+    venue_actualizado_en TIMESTAMP NULL,
+    PRIMARY KEY (id),
+    CONSTRAINT fk_evento_view_evento FOREIGN KEY (id) REFERENCES evento (id) ON DELETE CASCADE
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4;
+
+-- Los mismos índices que evento (V2, V3, V9) para los predicados de EventoSpecifications.fromCriteria
+CREATE INDEX idx_evento_view_estado_inicio ON evento_view (estado, fecha_inicio);
+-- También resuelve el UPDATE ... WHERE venue_id = ? al modificar un venue
+CREATE INDEX idx_evento_view_venue_inicio ON evento_view (venue_id, fecha_inicio);
+CREATE INDEX idx_evento_view_categoria_inicio ON evento_view (categoria, fecha_inicio);
+CREATE INDEX idx_evento_view_inicio ON evento_view (fecha_inicio);
+CREATE INDEX idx_evento_view_fin ON evento_view (fecha_fin);
+ALTER TABLE evento_view ADD FULLTEXT INDEX ft_evento_view_nombre (nombre) WITH PARSER ngram;
+
+INSERT INTO evento_view (id, nombre, fecha_inicio, fecha_fin, estado, categoria, version, actualizado_en,
+                         venue_id, venue_nombre, venue_version, venue_actualizado_en)
+SELECT e.id, e.nombre, e.fecha_inicio, e.fecha_fin, e.estado, e.categoria, e.version, e.actualizado_en,
+       v.id, v.nombre, v.version, v.actualizado_en
+FROM evento e
+JOIN venue v ON v.id = e.venue_id;
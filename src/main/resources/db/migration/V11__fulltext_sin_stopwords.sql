@@ -0,0 +1,19 @@
+-- V11__fulltext_sin_stopwords.sql
+-- Reconstruye los índices FULLTEXT (ngram) de V3 y V10 sin la lista de stopwords de InnoDB.
+-- Con el parser ngram se descarta todo n-grama que contenga una stopword, y la lista por defecto
+-- incluye "a" e "i": "ga", "la", "sa"... no llegaban al índice, y frases como "gala" o "salsa"
+-- no encontraban nada. InnoDB toma la configuración de stopwords al crear el índice y la guarda
+-- con la tabla; las búsquedas la usan después sin depender de la sesión.
+
+SET SESSION innodb_ft_enable_stopword = OFF;
+
+ALTER TABLE evento DROP INDEX ft_evento_nombre;
+ALTER TABLE evento ADD FULLTEXT INDEX ft_evento_nombre (nombre) WITH PARSER ngram;
+
+ALTER TABLE venue DROP INDEX ft_venue_nombre;
+ALTER TABLE venue ADD FULLTEXT INDEX ft_venue_nombre (nombre) WITH PARSER ngram;
+
+ALTER TABLE evento_view DROP INDEX ft_evento_view_nombre;
+ALTER TABLE evento_view ADD FULLTEXT INDEX ft_evento_view_nombre (nombre) WITH PARSER ngram;
+
+SET SESSION innodb_ft_enable_stopword = DEFAULT;
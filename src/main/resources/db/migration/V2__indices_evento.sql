@@ -0,0 +1,23 @@
+-- V2__indices_evento.sql
+-- 1) Alinea las columnas de fecha con snake_case (el naming strategy de Spring/Hibernate
+--    mapea fechaInicio -> fecha_inicio; V1 las había creado en camelCase).
+-- 2) Índices compuestos para los predicados que genera EventoSpecifications.fromCriteria
+--    y para la paginación por cursor (fecha_inicio, id).
+-- InnoDB añade la PK (id) al final de cada índice secundario, por lo que
+-- (x, fecha_inicio) equivale a (x, fecha_inicio, id) para el orden keyset.
+
+ALTER TABLE evento RENAME COLUMN fechaInicio TO fecha_inicio;
+ALTER TABLE evento RENAME COLUMN fechaFin TO fecha_fin;
+
+-- estado = ? [AND fecha_inicio >= ?] [ORDER BY fecha_inicio, id]
+CREATE INDEX idx_evento_estado_inicio ON evento (estado, fecha_inicio);
+
+-- venue_id = ? [AND fecha_inicio >= ?] [ORDER BY fecha_inicio, id]
+-- También sirve a la FK: InnoDB descarta solo el índice implícito de fk_evento_venue.
+CREATE INDEX idx_evento_venue_inicio ON evento (venue_id, fecha_inicio);
+
+-- fecha_inicio >= ? sin otros filtros, y el orden por defecto de /search y /search/scroll
+CREATE INDEX idx_evento_inicio ON evento (fecha_inicio);
+
+-- fecha_fin <= ? sin otros filtros
+CREATE INDEX idx_evento_fin ON evento (fecha_fin);
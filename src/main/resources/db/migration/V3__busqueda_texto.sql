@@ -0,0 +1,9 @@
+-- V3__busqueda_texto.sql
+-- Búsqueda por nombre de eventos y venues con índices FULLTEXT (parser ngram).
+-- Sustituye a lower(nombre) LIKE '%x%', que ningún índice B-tree puede resolver.
+-- Con ngram_token_size = 2 (valor por defecto del servidor) cualquier subcadena de
+-- 2 o más caracteres se resuelve en el índice; también funciona para nombres sin espacios.
+
+ALTER TABLE evento ADD FULLTEXT INDEX ft_evento_nombre (nombre) WITH PARSER ngram;
+
+ALTER TABLE venue ADD FULLTEXT INDEX ft_venue_nombre (nombre) WITH PARSER ngram;
@@ -0,0 +1,8 @@
+-- V4__indices_venue.sql
+-- Índices para el listado paginado de venues (GET /api/venues).
+-- Los filtros son por prefijo (LIKE 'x%') y el orden por defecto es nombre, id:
+-- InnoDB agrega la PK a cada índice secundario, así que idx_venue_nombre resuelve
+-- el filtro, el orden y el LIMIT sin filesort.
+
+CREATE INDEX idx_venue_nombre ON venue (nombre);
+CREATE INDEX idx_venue_ubicacion ON venue (ubicacion);
@@ -0,0 +1,7 @@
+-- V5__version.sql
+-- Control de concurrencia optimista (@Version en JpaEventoEntity/JpaVenueEntity).
+-- Las actualizaciones parciales son un único UPDATE ... SET version = version + 1
+-- WHERE id = ? [AND version = ?]: 0 filas afectadas = no existe o versión vieja.
+
+ALTER TABLE evento ADD COLUMN version BIGINT NOT NULL DEFAULT 0;
+ALTER TABLE venue ADD COLUMN version BIGINT NOT NULL DEFAULT 0;
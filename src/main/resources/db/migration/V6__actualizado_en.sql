@@ -0,0 +1,9 @@
+-- V6__actualizado_en.sql
+-- Fecha de última modificación para GET condicional (Last-Modified / If-Modified-Since).
+-- La mantiene MySQL: toda escritura bumpea version, así que ON UPDATE siempre la refresca,
+-- también en los UPDATE masivos que no pasan por entidades.
+
+ALTER TABLE evento
+    ADD COLUMN actualizado_en TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP ON UPDATE CURRENT_TIMESTAMP;
+ALTER TABLE venue
+    ADD COLUMN actualizado_en TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP ON UPDATE CURRENT_TIMESTAMP;
@@ -0,0 +1,14 @@
+-- V7__catalogo_cambio.sql
+-- Registro de cambios (outbox) de evento y venue, solo de agregado: cada alta, cambio y baja
+-- se inserta en la misma transacción que la escritura. GET /api/changes lo lee por id
+-- creciente; el id es el token de sincronización de los consumidores.
+
+CREATE TABLE catalogo_cambio (
+    id BIGINT AUTO_INCREMENT PRIMARY KEY,
+    entidad VARCHAR(10) NOT NULL,
+    entidad_id BIGINT NOT NULL,
+    operacion VARCHAR(10) NOT NULL,
+    -- versión resultante; null en bajas
+    version BIGINT NULL,
+    registrado_en TIMESTAMP(3) NOT NULL DEFAULT CURRENT_TIMESTAMP(3)
+);
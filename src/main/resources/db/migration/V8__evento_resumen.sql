@@ -0,0 +1,27 @@
+-- V8__evento_resumen.sql
+-- Conteos de eventos por estado, venue y día de inicio para GET /api/eventos/stats, mantenidos
+-- con deltas en la misma transacción que cada alta, cambio y baja (sin GROUP BY sobre evento).
+-- - dimension: TOTAL (clave ''), ESTADO, VENUE (id) o DIA (fecha_inicio como 'YYYY-MM-DD').
+-- - franja: cada clave se reparte en 8 filas (id del evento % 8) para que las escrituras
+--   concurrentes no se serialicen sobre la misma fila; el conteo es la suma de sus franjas.
+
+CREATE TABLE evento_resumen (
+    dimension VARCHAR(10) NOT NULL,
+    clave VARCHAR(64) NOT NULL,
+    franja TINYINT NOT NULL,
+    total BIGINT NOT NULL,
+    PRIMARY KEY (dimension, clave, franja)
+);
+
+INSERT INTO evento_resumen (dimension, clave, franja, total)
+SELECT 'TOTAL', '', 0, COUNT(*) FROM evento;
+
+INSERT INTO evento_resumen (dimension, clave, franja, total)
+SELECT 'ESTADO', estado, 0, COUNT(*) FROM evento WHERE estado IS NOT NULL GROUP BY estado;
+
+INSERT INTO evento_resumen (dimension, clave, franja, total)
+SELECT 'VENUE', CAST(venue_id AS CHAR), 0, COUNT(*) FROM evento GROUP BY venue_id;
+
+INSERT INTO evento_resumen (dimension, clave, franja, total)
+SELECT 'DIA', DATE_FORMAT(fecha_inicio, '%Y-%m-%d'), 0, COUNT(*) FROM evento
+WHERE fecha_inicio IS NOT NULL GROUP BY DATE_FORMAT(fecha_inicio, '%Y-%m-%d');
@@ -0,0 +1,7 @@
+-- V9__categoria_evento.sql
+-- Categoría del evento (filtro "categoria" de /search y faceta por categoría).
+
+ALTER TABLE evento ADD COLUMN categoria VARCHAR(100) NULL;
+
+-- categoria = ? [AND fecha_inicio >= ?] [ORDER BY fecha_inicio, id], como idx_evento_estado_inicio
+CREATE INDEX idx_evento_categoria_inicio ON evento (categoria, fecha_inicio);
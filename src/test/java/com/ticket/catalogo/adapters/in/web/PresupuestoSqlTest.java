@@ -0,0 +1,267 @@
+package com.ticket.catalogo.adapters.in.web;
+
+import com.ticket.catalogo.adapters.out.persistence.jdbc.JdbcEventoView;
+import com.ticket.catalogo.application.port.out.EventoRespositoryPort;
+import com.ticket.catalogo.application.service.ResumenEventosUseCase;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.context.WebApplicationContext;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+import org.testcontainers.mysql.MySQLContainer;
+
+import static com.ticket.catalogo.support.SentenciasSql.assertSentencias;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Cantidad exacta de sentencias SQL por endpoint, de Hibernate y de JdbcTemplate: una regresión
+ * N+1 cambia estos números.
+ * Corre con el filtro en modo FALLAR y un presupuesto bajo, como en CI.
+ * Requiere Docker; sin Docker la clase se omite.
+ */
+@SpringBootTest(properties = {
+        "spring.jpa.show-sql=false",
+        "catalogo.sql.presupuesto.modo=FALLAR",
+        "catalogo.sql.presupuesto.max-por-peticion=7",
+        // Los eventos sembrados ya terminaron: que el job no los finalice en medio de un test
+        "catalogo.transiciones.finalizar.enabled=false",
+        "catalogo.resumen.conciliacion.enabled=false"
+})
+@Testcontainers(disabledWithoutDocker = true)
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class PresupuestoSqlTest {
+
+    private static final int EVENTOS_POR_VENUE = 20;
+
+    @Container
+    @ServiceConnection
+    static MySQLContainer mysql = new MySQLContainer("mysql:8.4");
+
+    @Autowired
+    private WebApplicationContext context;
+
+    @Autowired
+    private PresupuestoSqlFilter presupuestoSqlFilter;
+
+    @Autowired
+    private EventoRespositoryPort eventoRepository;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private JdbcTemplate jdbc;
+
+    @Autowired
+    private ResumenEventosUseCase resumenUseCase;
+
+    @Autowired
+    private JdbcEventoView eventoView;
+
+    private MockMvc mvc;
+    private long venueId;
+    private long eventoId;
+
+    @BeforeAll
+    void sembrar() {
+        jdbc.update("INSERT INTO venue (nombre, capacidad, ubicacion) VALUES ('Arena Norte', 8000, 'Bogota')");
+        venueId = jdbc.queryForObject("SELECT max(id) FROM venue", Long.class);
+        for (int i = 0; i < EVENTOS_POR_VENUE; i++) {
+            jdbc.update("INSERT INTO evento (nombre, fecha_inicio, fecha_fin, estado, categoria, venue_id)"
+                    + " VALUES (?, TIMESTAMP('2026-03-01 20:00:00') + INTERVAL ? DAY,"
+                    + " TIMESTAMP('2026-03-01 23:00:00') + INTERVAL ? DAY, 'ACTIVO', ?, ?)",
+                    "Evento " + i, i, i, i % 2 == 0 ? "MUSICA" : "TEATRO", venueId);
+        }
+        eventoId = jdbc.queryForObject("SELECT min(id) FROM evento", Long.class);
+        // La siembra va por JDBC: se copia a evento_view como cualquier carga por SQL
+        eventoView.reconstruir();
+    }
+
+    @BeforeEach
+    void construirMockMvc() {
+        mvc = MockMvcBuilders.webAppContextSetup(context).addFilters(presupuestoSqlFilter).build();
+    }
+
+    @Test
+    void obtenerEventoTraeElVenueEnLaMismaConsulta() throws Exception {
+        assertSentencias(1, peticion("/api/eventos/" + eventoId));
+    }
+
+    @Test
+    void getCondicionalSinCambiosSoloLeeLaVersion() throws Exception {
+        String etag = peticion("/api/eventos/" + eventoId).getResponse().getHeader(HttpHeaders.ETAG);
+
+        assertSentencias(1, mvc.perform(get("/api/eventos/" + eventoId).header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isNotModified())
+                .andReturn());
+    }
+
+    @Test
+    void obtenerVariosEventosEsUnaConsulta() throws Exception {
+        assertSentencias(1, peticion("/api/eventos?ids=" + eventoId + "," + (eventoId + 1) + "," + (eventoId + 2)));
+    }
+
+    @Test
+    void busquedaPaginadaEsConsultaMasCount() throws Exception {
+        // Página llena: hace falta el COUNT para conocer el total
+        assertSentencias(2, peticion("/api/eventos/search?venueId=" + venueId + "&size=5&sort=nombre"));
+    }
+
+    @Test
+    void facetasSonUnaConsultaAgregada() throws Exception {
+        // Página + COUNT + un GROUP BY para las tres facetas, sin un COUNT por valor
+        assertSentencias(3, mvc.perform(get("/api/eventos/search?venueId=" + venueId + "&estado=ACTIVO&size=5&facetas=true"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.facetas.porEstado.ACTIVO").value(EVENTOS_POR_VENUE))
+                .andExpect(jsonPath("$.facetas.porCategoria.MUSICA").value(EVENTOS_POR_VENUE / 2))
+                .andExpect(jsonPath("$.facetas.porVenue['" + venueId + "']").value(EVENTOS_POR_VENUE))
+                .andReturn());
+
+        // Otra página de la misma búsqueda: página + COUNT; las facetas salen de la caché
+        assertSentencias(2, peticion("/api/eventos/search?venueId=" + venueId + "&estado=ACTIVO&size=5&page=1&facetas=true"));
+    }
+
+    @Test
+    void busquedaPorCursorEsUnaConsulta() throws Exception {
+        assertSentencias(1, peticion("/api/eventos/search/scroll?venueId=" + venueId + "&size=5"));
+    }
+
+    @Test
+    void listadoDeVenuesEsUnaConsulta() throws Exception {
+        // Página incompleta: el total se deduce sin COUNT
+        assertSentencias(1, peticion("/api/venues?nombre=Arena"));
+    }
+
+    @Test
+    void eventosDeUnVenueNoDisparanUnaConsultaPorFila() throws Exception {
+        int eventos = assertSentencias(1, () -> transactionTemplate.execute(
+                status -> eventoRepository.findByVenueId(venueId).stream()
+                        .map(e -> e.getVenue().getNombre())
+                        .count()))
+                .intValue();
+        assertEquals(EVENTOS_POR_VENUE, eventos);
+    }
+
+    @Test
+    void actualizarEventoEsUnUpdateMasLaRespuesta() throws Exception {
+        long id = eventoId + 1;
+        long version = jdbc.queryForObject("SELECT version FROM evento WHERE id = ?", Long.class, id);
+        String cambios = "{\"nombre\":\"Evento renombrado\",\"version\":" + version + "}";
+
+        // UPDATE + refresco de evento_view + lectura de la respuesta + registro en catalogo_cambio
+        assertSentencias(4, mvc.perform(put("/api/eventos/" + id)
+                .contentType(MediaType.APPLICATION_JSON).content(cambios))
+                .andExpect(status().isOk()).andReturn());
+
+        // Misma versión otra vez: el UPDATE no afecta filas y solo se lee la versión para responder 409
+        assertSentencias(2, mvc.perform(put("/api/eventos/" + id)
+                .contentType(MediaType.APPLICATION_JSON).content(cambios))
+                .andExpect(status().isConflict()).andReturn());
+    }
+
+    @Test
+    void eliminarEventoEsUnDelete() throws Exception {
+        jdbc.update("INSERT INTO evento (nombre, fecha_inicio, fecha_fin, estado, venue_id)"
+                + " VALUES ('Para borrar', '2026-05-01 20:00:00', '2026-05-01 23:00:00', 'BORRADOR', ?)", venueId);
+        long id = jdbc.queryForObject("SELECT max(id) FROM evento", Long.class);
+
+        // Bloqueo de la fila para el resumen + DELETE + delta del resumen + registro en catalogo_cambio
+        assertSentencias(4, mvc.perform(delete("/api/eventos/" + id)).andExpect(status().isOk()).andReturn());
+    }
+
+    @Test
+    void transicionMasivaEsUnUpdatePorLote() throws Exception {
+        jdbc.update("INSERT INTO venue (nombre, capacidad, ubicacion) VALUES ('Coliseo Transiciones', 500, 'Pasto')");
+        long otroVenue = jdbc.queryForObject("SELECT max(id) FROM venue", Long.class);
+        for (int i = 0; i < 3; i++) {
+            jdbc.update("INSERT INTO evento (nombre, fecha_inicio, fecha_fin, estado, venue_id)"
+                    + " VALUES ('Terminado', '2025-01-01 20:00:00', '2025-01-01 23:00:00', 'ACTIVO', ?)", otroVenue);
+        }
+        String transicion = "{\"estado\":\"ACTIVO\",\"fin\":\"2025-06-01T00:00:00\",\"venueId\":" + otroVenue
+                + ",\"estadoDestino\":\"FINALIZADO\"}";
+
+        // Un lote: lectura de ids + bloqueo de filas + UPDATE + refresco de evento_view + relectura
+        // bloqueada para el resumen + un upsert con todos sus deltas + registro en catalogo_cambio
+        assertSentencias(7, mvc.perform(post("/api/eventos/transiciones")
+                .contentType(MediaType.APPLICATION_JSON).content(transicion))
+                .andExpect(status().isOk()).andReturn());
+
+        assertEquals(3, jdbc.queryForObject("SELECT count(*) FROM evento"
+                + " WHERE venue_id = ? AND estado = 'FINALIZADO' AND version = 1", Integer.class, otroVenue));
+        assertEquals(3, jdbc.queryForObject("SELECT count(*) FROM catalogo_cambio c JOIN evento e ON e.id = c.entidad_id"
+                + " WHERE c.entidad = 'EVENTO' AND c.operacion = 'CAMBIO' AND e.venue_id = ?", Integer.class, otroVenue));
+        assertEquals(3, jdbc.queryForObject("SELECT count(*) FROM evento_view"
+                + " WHERE venue_id = ? AND estado = 'FINALIZADO' AND version = 1", Integer.class, otroVenue));
+    }
+
+    @Test
+    void renombrarVenueLlegaAEventoViewSinReleerSusEventos() throws Exception {
+        jdbc.update("INSERT INTO venue (nombre, capacidad, ubicacion) VALUES ('Coliseo Viejo', 500, 'Tunja')");
+        long otroVenue = jdbc.queryForObject("SELECT max(id) FROM venue", Long.class);
+        jdbc.update("INSERT INTO evento (nombre, fecha_inicio, fecha_fin, estado, venue_id)"
+                + " VALUES ('En el coliseo', '2026-07-01 20:00:00', '2026-07-01 23:00:00', 'ACTIVO', ?)", otroVenue);
+        long id = jdbc.queryForObject("SELECT max(id) FROM evento", Long.class);
+        eventoView.reconstruir();
+
+        // UPDATE del venue + una copia a las filas de sus eventos en evento_view + su lectura
+        // + registro en catalogo_cambio
+        assertSentencias(4, mvc.perform(put("/api/venues/" + otroVenue)
+                .contentType(MediaType.APPLICATION_JSON).content("{\"nombre\":\"Coliseo Nuevo\"}"))
+                .andExpect(status().isOk()).andReturn());
+
+        assertSentencias(1, mvc.perform(get("/api/eventos/" + id))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.venueNombre").value("Coliseo Nuevo"))
+                .andReturn());
+    }
+
+    @Test
+    void estadisticasLeenElResumenSinConsultarEventos() throws Exception {
+        // La siembra va por JDBC, sin deltas: la conciliación los agrega y la siguiente no encuentra diferencias
+        resumenUseCase.conciliar();
+        assertEquals(0, resumenUseCase.conciliar());
+        long total = jdbc.queryForObject("SELECT count(*) FROM evento", Long.class);
+
+        // Una consulta agregada sobre evento_resumen, sin tocar evento
+        assertSentencias(1, mvc.perform(get("/api/eventos/stats?desde=2026-03-01&hasta=2026-03-08"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.total").value(total))
+                .andExpect(jsonPath("$.porDia['2026-03-01']").value(1))
+                .andReturn());
+    }
+
+    @Test
+    void superarElPresupuestoFallaLaPeticion() {
+        PresupuestoSqlFilter sinPresupuesto = new PresupuestoSqlFilter(0, PresupuestoSqlFilter.Modo.FALLAR);
+        MockMvc mvcEstricto = MockMvcBuilders.webAppContextSetup(context).addFilters(sinPresupuesto).build();
+
+        Exception error = assertThrows(Exception.class, () -> mvcEstricto.perform(post("/api/venues")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"nombre\":\"Teatro Sur\",\"capacidad\":300,\"ubicacion\":\"Cali\"}")));
+        assertTrue(error.getMessage().contains("presupuesto: 0"), error.getMessage());
+    }
+
+    private MvcResult peticion(String uri) throws Exception {
+        return mvc.perform(get(uri)).andExpect(status().isOk()).andReturn();
+    }
+}
@@ -0,0 +1,55 @@
+package com.ticket.catalogo.adapters.out.persistence.cache;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.BitSet;
+import java.util.Random;
+
+import static com.ticket.catalogo.adapters.out.persistence.cache.CalendarioOcupacion.SEGUNDOS_POR_DIA;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class AgendaVenueTest {
+
+    private static final long DIA = 20_000; // 2024-10-04
+
+    @Test
+    void eventoQueTerminaAMedianocheNoOcupaElDiaSiguiente() {
+        AgendaVenue agenda = AgendaVenue.de(IndiceIntervalos.VACIO)
+                .con(1, DIA * SEGUNDOS_POR_DIA + 20 * 3600, (DIA + 1) * SEGUNDOS_POR_DIA);
+
+        assertEquals(bits(1), agenda.calendario().ocupados(DIA - 1, DIA + 2));
+    }
+
+    @Test
+    void quitarUnEventoSoloLiberaLosDiasQueNadieMasOcupa() {
+        AgendaVenue agenda = AgendaVenue.de(IndiceIntervalos.VACIO)
+                .con(1, DIA * SEGUNDOS_POR_DIA, (DIA + 3) * SEGUNDOS_POR_DIA)       // días 0-2
+                .con(2, (DIA + 2) * SEGUNDOS_POR_DIA, (DIA + 2) * SEGUNDOS_POR_DIA + 3600);
+
+        assertEquals(bits(2), agenda.sin(1).calendario().ocupados(DIA, DIA + 5));
+        assertEquals(bits(0, 1, 2), agenda.sin(2).calendario().ocupados(DIA, DIA + 5));
+    }
+
+    @Test
+    void lasActualizacionesIncrementalesCoincidenConReconstruir() {
+        Random r = new Random(11);
+        AgendaVenue agenda = AgendaVenue.de(IndiceIntervalos.VACIO);
+        for (int paso = 0; paso < 2_000; paso++) {
+            long id = 1 + r.nextInt(50);
+            if (r.nextInt(4) == 0) {
+                agenda = agenda.sin(id);
+            } else {
+                long inicio = (DIA + r.nextInt(120)) * SEGUNDOS_POR_DIA + r.nextInt((int) SEGUNDOS_POR_DIA);
+                agenda = agenda.con(id, inicio, inicio + 1 + r.nextInt((int) (3 * SEGUNDOS_POR_DIA)));
+            }
+            CalendarioOcupacion reconstruido = CalendarioOcupacion.de(agenda.indice());
+            assertEquals(reconstruido.ocupados(DIA - 10, DIA + 130), agenda.calendario().ocupados(DIA - 10, DIA + 130));
+        }
+    }
+
+    private static BitSet bits(int... posiciones) {
+        BitSet bits = new BitSet();
+        for (int p : posiciones) bits.set(p);
+        return bits;
+    }
+}
@@ -0,0 +1,92 @@
+package com.ticket.catalogo.adapters.out.persistence.cache;
+
+import com.ticket.catalogo.application.port.out.EventoSearchCriteria;
+import com.ticket.catalogo.application.DTO.EventoDto;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class EventoBusquedaCacheTest {
+
+    private final EventoBusquedaCache cache = new EventoBusquedaCache(100, Duration.ofMinutes(1), false, Duration.ofSeconds(30));
+    private final Pageable pagina = PageRequest.of(0, 20);
+    private final AtomicInteger consultas = new AtomicInteger();
+
+    private Page<EventoDto> buscar(EventoSearchCriteria criteria) {
+        return cache.obtener(criteria, pagina, () -> {
+            consultas.incrementAndGet();
+            return new PageImpl<>(List.of(), pagina, 0);
+        });
+    }
+
+    @Test
+    void mismaBusquedaSeResuelveDesdeCache() {
+        EventoSearchCriteria criteria = EventoSearchCriteria.builder().estado("ACTIVO").build();
+
+        buscar(criteria);
+        buscar(EventoSearchCriteria.builder().estado("ACTIVO").build());
+
+        assertEquals(1, consultas.get());
+    }
+
+    @Test
+    void altaEnUnVenueSoloInvalidaSusBusquedasYLasSinVenue() {
+        EventoSearchCriteria venue1 = EventoSearchCriteria.builder().venueId(1L).build();
+        EventoSearchCriteria venue2 = EventoSearchCriteria.builder().venueId(2L).build();
+        EventoSearchCriteria todos = EventoSearchCriteria.builder().build();
+        buscar(venue1);
+        buscar(venue2);
+        buscar(todos);
+
+        cache.escrituraEnVenue(1L);
+        buscar(venue1);
+        buscar(venue2);
+        buscar(todos);
+
+        // venue1 y todos se recalculan; venue2 sigue en caché
+        assertEquals(5, consultas.get());
+    }
+
+    @Test
+    void escrituraGlobalInvalidaTodo() {
+        EventoSearchCriteria venue1 = EventoSearchCriteria.builder().venueId(1L).build();
+        EventoSearchCriteria todos = EventoSearchCriteria.builder().build();
+        buscar(venue1);
+        buscar(todos);
+
+        cache.escrituraGlobal();
+        buscar(venue1);
+        buscar(todos);
+
+        assertEquals(4, consultas.get());
+    }
+
+    @Test
+    void conReplicaNoSeGuardaLoLeidoJustoDespuesDeUnaEscritura() {
+        EventoBusquedaCache conReplica = new EventoBusquedaCache(100, Duration.ofMinutes(1), true, Duration.ofSeconds(30));
+        EventoSearchCriteria venue1 = EventoSearchCriteria.builder().venueId(1L).build();
+        EventoSearchCriteria venue2 = EventoSearchCriteria.builder().venueId(2L).build();
+        Supplier<Page<EventoDto>> consulta = () -> {
+            consultas.incrementAndGet();
+            return new PageImpl<>(List.of(), pagina, 0);
+        };
+
+        conReplica.escrituraEnVenue(1L);
+        conReplica.obtener(venue1, pagina, consulta);
+        conReplica.obtener(venue1, pagina, consulta);
+        conReplica.obtener(venue2, pagina, consulta);
+        conReplica.obtener(venue2, pagina, consulta);
+
+        // venue1 se consulta las dos veces (la réplica puede no tener la escritura); venue2 se cachea
+        assertEquals(3, consultas.get());
+    }
+}
@@ -0,0 +1,73 @@
+package com.ticket.catalogo.adapters.out.persistence.cache;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class IndiceIntervalosTest {
+
+    private final IndiceIntervalos indice = IndiceIntervalos.de(
+            new long[]{1, 2, 3},
+            new long[]{100, 10, 50},
+            new long[]{120, 40, 60});
+
+    @Test
+    void intervalosContiguosNoSeSolapan() {
+        assertEquals(-1, indice.primerSolapado(40, 50, Long.MIN_VALUE));
+        assertEquals(2, indice.id(indice.primerSolapado(39, 50, Long.MIN_VALUE)));
+    }
+
+    @Test
+    void elEventoExcluidoNoChocaConsigoMismo() {
+        assertEquals(-1, indice.primerSolapado(55, 58, 3));
+        assertEquals(3, indice.id(indice.primerSolapado(55, 58, 99)));
+    }
+
+    @Test
+    void conReemplazaElIntervaloAnteriorYSinLoQuita() {
+        IndiceIntervalos movido = indice.con(2, 200, 210);
+
+        assertEquals(3, movido.tamano());
+        assertEquals(-1, movido.primerSolapado(10, 40, Long.MIN_VALUE));
+        assertEquals(List.of(3L, 1L, 2L), ids(movido, movido.solapados(0, 1000)));
+        assertEquals(List.of(3L, 1L), ids(movido.sin(2), movido.sin(2).solapados(0, 1000)));
+        // El original no cambia
+        assertEquals(List.of(2L, 3L, 1L), ids(indice, indice.solapados(0, 1000)));
+    }
+
+    @Test
+    void ventanaCoincideConUnRecorridoCompleto() {
+        Random r = new Random(7);
+        int n = 500;
+        long[] ids = new long[n];
+        long[] inicios = new long[n];
+        long[] fines = new long[n];
+        for (int i = 0; i < n; i++) {
+            ids[i] = i + 1;
+            inicios[i] = r.nextInt(10_000);
+            fines[i] = inicios[i] + 1 + r.nextInt(300);
+        }
+        IndiceIntervalos grande = IndiceIntervalos.de(ids, inicios, fines);
+
+        for (int q = 0; q < 200; q++) {
+            long desde = r.nextInt(10_000);
+            long hasta = desde + 1 + r.nextInt(500);
+            long esperados = 0;
+            for (int i = 0; i < n; i++) {
+                if (inicios[i] < hasta && desde < fines[i]) esperados++;
+            }
+            assertEquals(esperados, grande.solapados(desde, hasta).size());
+            assertEquals(esperados == 0, grande.primerSolapado(desde, hasta, Long.MIN_VALUE) < 0);
+        }
+    }
+
+    private static List<Long> ids(IndiceIntervalos indice, List<Integer> posiciones) {
+        List<Long> ids = new ArrayList<>();
+        for (int p : posiciones) ids.add(indice.id(p));
+        return ids;
+    }
+}
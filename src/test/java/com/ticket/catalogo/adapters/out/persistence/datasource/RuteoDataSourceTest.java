@@ -0,0 +1,104 @@
+package com.ticket.catalogo.adapters.out.persistence.datasource;
+
+import com.ticket.catalogo.application.service.VenueUseCase;
+import com.ticket.catalogo.domain.model.Venue;
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+import org.testcontainers.mysql.MySQLContainer;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Ruteo lectura/escritura contra dos instancias MySQL independientes (sin replicación real):
+ * cada una tiene un venue distinto, así se ve a cuál fue cada consulta.
+ * Requiere Docker; sin Docker la clase se omite.
+ */
+@SpringBootTest(properties = {
+        "spring.jpa.show-sql=false",
+        "catalogo.datasource.replica.enabled=true",
+        // Las comprobaciones las dispara el test
+        "catalogo.datasource.replica.comprobacion=1h"
+})
+@Testcontainers(disabledWithoutDocker = true)
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class RuteoDataSourceTest {
+
+    @Container
+    static MySQLContainer primario = new MySQLContainer("mysql:8.4");
+
+    @Container
+    static MySQLContainer replica = new MySQLContainer("mysql:8.4");
+
+    @DynamicPropertySource
+    static void propiedades(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", primario::getJdbcUrl);
+        registry.add("spring.datasource.username", primario::getUsername);
+        registry.add("spring.datasource.password", primario::getPassword);
+        registry.add("catalogo.datasource.replica.url", replica::getJdbcUrl);
+        registry.add("catalogo.datasource.replica.username", replica::getUsername);
+        registry.add("catalogo.datasource.replica.password", replica::getPassword);
+    }
+
+    @Autowired
+    private VenueUseCase venueUseCase;
+
+    @Autowired
+    private MonitorReplica monitor;
+
+    @BeforeAll
+    void sembrar() {
+        // Flyway solo migra el primario; en producción el esquema llega a la réplica por replicación
+        Flyway.configure()
+                .dataSource(replica.getJdbcUrl(), replica.getUsername(), replica.getPassword())
+                .load()
+                .migrate();
+        // El pool "replica" abre conexiones read-only; la siembra va por fuera
+        new JdbcTemplate(new DriverManagerDataSource(replica.getJdbcUrl(), replica.getUsername(), replica.getPassword()))
+                .update("INSERT INTO venue (nombre, capacidad, ubicacion) VALUES ('En replica', 10, 'Cali')");
+        venueUseCase.crearVenue(new Venue(null, "En primario", 20, "Bogota", null));
+    }
+
+    @AfterEach
+    void restablecer() {
+        monitor.comprobar();
+    }
+
+    @Test
+    void lecturasDeSoloLecturaVanALaReplica() {
+        assertEquals(List.of("En replica"), nombres());
+    }
+
+    @Test
+    void conLaReplicaCaidaLasLecturasVuelvenAlPrimario() {
+        monitor.marcarCaida(new IllegalStateException("prueba"));
+        assertFalse(monitor.disponible());
+
+        assertEquals(List.of("En primario"), nombres());
+
+        monitor.comprobar();
+        assertTrue(monitor.disponible());
+        assertEquals(List.of("En replica"), nombres());
+    }
+
+    private List<String> nombres() {
+        return venueUseCase.listarTodos(null, null, PageRequest.of(0, 10)).stream()
+                .map(Venue::getNombre)
+                .toList();
+    }
+}
@@ -0,0 +1,85 @@
+package com.ticket.catalogo.adapters.out.persistence.jdbc;
+
+import com.ticket.catalogo.domain.model.Cambio;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.data.jpa.test.autoconfigure.DataJpaTest;
+import org.springframework.boot.jdbc.test.autoconfigure.AutoConfigureTestDatabase;
+import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+import org.testcontainers.mysql.MySQLContainer;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Lectura de catalogo_cambio contra MySQL real: el margen se aplica con el reloj de la base
+ * sobre registrado_en. Requiere Docker; sin Docker la clase se omite.
+ */
+@DataJpaTest(properties = "spring.jpa.show-sql=false")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import(JdbcCambioRepositoryAdapter.class)
+@Testcontainers(disabledWithoutDocker = true)
+class JdbcCambioRepositoryAdapterTest {
+
+    @Container
+    @ServiceConnection
+    static MySQLContainer mysql = new MySQLContainer("mysql:8.4");
+
+    @Autowired
+    private JdbcCambioRepositoryAdapter adapter;
+
+    @Autowired
+    private JdbcTemplate jdbc;
+
+    private long primero;
+
+    @BeforeEach
+    void registrarCambios() {
+        // 1 y 2 registrados hace un minuto, 3 hace un segundo, 4 recién registrado
+        registrar(101, "NOW(3) - INTERVAL 1 MINUTE");
+        registrar(102, "NOW(3) - INTERVAL 1 MINUTE");
+        registrar(103, "NOW(3) - INTERVAL 1 SECOND");
+        registrar(104, "NOW(3)");
+        primero = jdbc.queryForObject("SELECT MIN(id) FROM catalogo_cambio WHERE entidad_id = 101", Long.class);
+    }
+
+    @Test
+    void soloEntregaLoRegistradoHaceMasQueElMargen() {
+        assertEquals(List.of(101L, 102L), entidades(adapter.listarDesde(primero - 1, 10, Duration.ofSeconds(30))));
+        assertEquals(List.of(101L, 102L, 103L), entidades(adapter.listarDesde(primero - 1, 10, Duration.ofMillis(500))));
+    }
+
+    @Test
+    void unaFilaRetenidaNoFrenaLasDeIdMayor() {
+        // La fila retenida (103) no impide entregar una de id mayor ya fuera del margen:
+        // por eso el margen debe cubrir la transacción de escritura más larga
+        registrar(105, "NOW(3) - INTERVAL 1 MINUTE");
+
+        assertEquals(List.of(101L, 102L, 105L), entidades(adapter.listarDesde(primero - 1, 10, Duration.ofSeconds(30))));
+    }
+
+    @Test
+    void respetaElTokenYElLimite() {
+        List<Cambio> cambios = adapter.listarDesde(primero, 1, Duration.ZERO);
+
+        assertEquals(List.of(102L), entidades(cambios));
+        assertEquals(primero + 1, cambios.get(0).getId());
+    }
+
+    private void registrar(long entidadId, String registradoEn) {
+        jdbc.update("INSERT INTO catalogo_cambio (entidad, entidad_id, operacion, version, registrado_en)"
+                + " VALUES ('EVENTO', ?, 'ALTA', 0, " + registradoEn + ")", entidadId);
+    }
+
+    private static List<Long> entidades(List<Cambio> cambios) {
+        return cambios.stream().map(Cambio::getEntidadId).collect(Collectors.toList());
+    }
+}
@@ -0,0 +1,130 @@
+package com.ticket.catalogo.adapters.out.persistence.jdbc;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.data.jpa.test.autoconfigure.DataJpaTest;
+import org.springframework.boot.jdbc.test.autoconfigure.AutoConfigureTestDatabase;
+import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+import org.testcontainers.mysql.MySQLContainer;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * evento_view contra MySQL real: después de cada escritura de evento o venue seguida de su
+ * refresco, la vista coincide fila a fila con evento JOIN venue. Requiere Docker; sin Docker
+ * la clase se omite.
+ */
+@DataJpaTest(properties = "spring.jpa.show-sql=false")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import(JdbcEventoView.class)
+@Testcontainers(disabledWithoutDocker = true)
+class JdbcEventoViewTest {
+
+    private static final String COLUMNAS = "id, nombre, fecha_inicio, fecha_fin, estado, categoria, version,"
+            + " actualizado_en, venue_id, venue_nombre, venue_version, venue_actualizado_en";
+
+    @Container
+    @ServiceConnection
+    static MySQLContainer mysql = new MySQLContainer("mysql:8.4");
+
+    @Autowired
+    private JdbcEventoView view;
+
+    @Autowired
+    private JdbcTemplate jdbc;
+
+    private long auditorio;
+    private long teatro;
+
+    @BeforeEach
+    void sembrar() {
+        auditorio = insertarVenue("Auditorio");
+        teatro = insertarVenue("Teatro");
+    }
+
+    @Test
+    void refrescarCopiaAltasYCambiosDeEventos() {
+        long gala = insertarEvento("Gala", auditorio);
+        long rock = insertarEvento("Rock", auditorio);
+        view.refrescar(List.of(gala, rock));
+        assertVistaCoincide();
+
+        // Cambio de campos, de estado y de venue: solo se refresca el evento modificado
+        jdbc.update("UPDATE evento SET nombre = 'Gala lirica', estado = 'CANCELADO', categoria = 'OPERA',"
+                + " venue_id = ?, version = version + 1 WHERE id = ?", teatro, gala);
+        view.refrescar(List.of(gala));
+
+        assertVistaCoincide();
+        assertEquals(teatro, jdbc.queryForObject("SELECT venue_id FROM evento_view WHERE id = ?", Long.class, gala));
+    }
+
+    @Test
+    void refrescarVenueLlegaATodosSusEventos() {
+        long gala = insertarEvento("Gala", auditorio);
+        long rock = insertarEvento("Rock", auditorio);
+        long jazz = insertarEvento("Jazz", teatro);
+        view.refrescar(List.of(gala, rock, jazz));
+
+        jdbc.update("UPDATE venue SET nombre = 'Auditorio Nacional', version = version + 1,"
+                + " actualizado_en = actualizado_en + INTERVAL 1 SECOND WHERE id = ?", auditorio);
+        view.refrescarVenue(auditorio);
+
+        assertVistaCoincide();
+        assertEquals(List.of("Auditorio Nacional", "Auditorio Nacional", "Teatro"), jdbc.queryForList(
+                "SELECT venue_nombre FROM evento_view ORDER BY id", String.class));
+    }
+
+    @Test
+    void lasBajasLasPropagaLaClaveForanea() {
+        long gala = insertarEvento("Gala", auditorio);
+        long rock = insertarEvento("Rock", auditorio);
+        long jazz = insertarEvento("Jazz", teatro);
+        view.refrescar(List.of(gala, rock, jazz));
+
+        jdbc.update("DELETE FROM evento WHERE id = ?", gala);
+        jdbc.update("DELETE FROM venue WHERE id = ?", teatro);
+
+        assertVistaCoincide();
+        assertEquals(List.of(rock), jdbc.queryForList("SELECT id FROM evento_view", Long.class));
+    }
+
+    @Test
+    void reconstruirRecuperaFilasEscritasFueraDeLaAplicacion() {
+        long gala = insertarEvento("Gala", auditorio);
+        view.refrescar(List.of(gala));
+        insertarEvento("Rock", teatro);
+        jdbc.update("UPDATE evento SET nombre = 'Gala lirica' WHERE id = ?", gala);
+
+        view.reconstruir();
+
+        assertVistaCoincide();
+    }
+
+    private void assertVistaCoincide() {
+        List<Map<String, Object>> esperado = jdbc.queryForList("SELECT e.id, e.nombre, e.fecha_inicio, e.fecha_fin,"
+                + " e.estado, e.categoria, e.version, e.actualizado_en, v.id AS venue_id, v.nombre AS venue_nombre,"
+                + " v.version AS venue_version, v.actualizado_en AS venue_actualizado_en"
+                + " FROM evento e JOIN venue v ON v.id = e.venue_id ORDER BY e.id");
+        List<Map<String, Object>> vista = jdbc.queryForList("SELECT " + COLUMNAS + " FROM evento_view ORDER BY id");
+        assertEquals(esperado, vista);
+    }
+
+    private long insertarVenue(String nombre) {
+        jdbc.update("INSERT INTO venue (nombre, capacidad, ubicacion) VALUES (?, 500, 'Bogota')", nombre);
+        return jdbc.queryForObject("SELECT LAST_INSERT_ID()", Long.class);
+    }
+
+    private long insertarEvento(String nombre, long venueId) {
+        jdbc.update("INSERT INTO evento (nombre, fecha_inicio, fecha_fin, estado, categoria, venue_id)"
+                + " VALUES (?, '2026-03-14 20:00:00', '2026-03-14 23:00:00', 'ACTIVO', 'CONCIERTO', ?)", nombre, venueId);
+        return jdbc.queryForObject("SELECT LAST_INSERT_ID()", Long.class);
+    }
+}
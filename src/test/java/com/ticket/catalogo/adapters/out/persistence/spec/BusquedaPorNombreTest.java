@@ -0,0 +1,106 @@
+package com.ticket.catalogo.adapters.out.persistence.spec;
+
+import com.ticket.catalogo.adapters.out.persistence.jdbc.JdbcEventoView;
+import com.ticket.catalogo.adapters.out.persistence.jpa.adapter.JpaEventoRepositoryAdapter;
+import com.ticket.catalogo.adapters.out.persistence.jpa.entity.JpaEventoEntity;
+import com.ticket.catalogo.adapters.out.persistence.jpa.entity.JpaVenueEntity;
+import com.ticket.catalogo.adapters.out.persistence.jpa.function.BusquedaTexto;
+import com.ticket.catalogo.adapters.out.persistence.jpa.repository.SpringDataEventoRepository;
+import com.ticket.catalogo.adapters.out.persistence.jpa.repository.SpringDataVenueRepository;
+import com.ticket.catalogo.application.DTO.EventoDto;
+import com.ticket.catalogo.application.port.out.EventoSearchCriteria;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.data.jpa.test.autoconfigure.DataJpaTest;
+import org.springframework.boot.jdbc.test.autoconfigure.AutoConfigureTestDatabase;
+import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+import org.testcontainers.mysql.MySQLContainer;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Resultados de la búsqueda por nombre con los índices FULLTEXT (ngram) de evento, evento_view
+ * y venue: los n-gramas que contienen stopwords de InnoDB ("a", "i", "la", "de"...) también
+ * tienen que encontrarse. Las filas se siembran fuera de la transacción del test porque InnoDB
+ * actualiza los índices FULLTEXT al hacer commit. Requiere Docker; sin Docker la clase se omite.
+ */
+@DataJpaTest(properties = "spring.jpa.show-sql=false")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import({JpaEventoRepositoryAdapter.class, JdbcEventoView.class})
+@Testcontainers(disabledWithoutDocker = true)
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class BusquedaPorNombreTest {
+
+    @Container
+    @ServiceConnection
+    static MySQLContainer mysql = new MySQLContainer("mysql:8.4");
+
+    @Autowired
+    private JpaEventoRepositoryAdapter adapter;
+
+    @Autowired
+    private SpringDataEventoRepository eventoRepo;
+
+    @Autowired
+    private SpringDataVenueRepository venueRepo;
+
+    @Autowired
+    private JdbcEventoView view;
+
+    @Autowired
+    private JdbcTemplate jdbc;
+
+    @BeforeAll
+    void sembrar() {
+        jdbc.update("INSERT INTO venue (nombre, capacidad, ubicacion) VALUES ('Sala Gaitan', 500, 'Bogota'),"
+                + " ('Teatro Colon', 900, 'Bogota')");
+        jdbc.update("INSERT INTO evento (nombre, fecha_inicio, fecha_fin, estado, venue_id) VALUES"
+                + " ('Gala de la Opera', '2026-03-14 20:00:00', '2026-03-14 23:00:00', 'ACTIVO', 1),"
+                + " ('Noche de salsa', '2026-03-15 20:00:00', '2026-03-15 23:00:00', 'ACTIVO', 1),"
+                + " ('Rock al parque', '2026-03-16 20:00:00', '2026-03-16 23:00:00', 'ACTIVO', 2)");
+        view.reconstruir();
+    }
+
+    @ParameterizedTest
+    @CsvSource(delimiter = '|', value = {
+            "gala|Gala de la Opera",
+            "salsa|Noche de salsa",
+            "de|Gala de la Opera,Noche de salsa",
+            "la op|Gala de la Opera",
+            "al parque|Rock al parque",
+            "tango|"
+    })
+    void encuentraLosEventosQueContienenElTexto(String texto, String esperados) {
+        List<String> nombres = esperados == null ? List.of() : Arrays.asList(esperados.split(","));
+        EventoSearchCriteria criteria = EventoSearchCriteria.builder().nombreLike(texto).build();
+
+        List<String> enView = adapter.searchDto(criteria, PageRequest.of(0, 10)).getContent().stream()
+                .map(EventoDto::getNombre).sorted().collect(Collectors.toList());
+        List<String> enEvento = eventoRepo.findAll(EventoSpecifications.<JpaEventoEntity>fromCriteria(criteria)).stream()
+                .map(JpaEventoEntity::getNombre).sorted().collect(Collectors.toList());
+
+        assertEquals(nombres, enView);
+        assertEquals(nombres, enEvento);
+    }
+
+    @Test
+    void encuentraVenuesConNGramasDeStopwords() {
+        List<String> nombres = venueRepo.buscarPorNombre(BusquedaTexto.aFrase("sala"), PageRequest.of(0, 10))
+                .getContent().stream().map(JpaVenueEntity::getNombre).collect(Collectors.toList());
+
+        assertEquals(List.of("Sala Gaitan"), nombres);
+    }
+}
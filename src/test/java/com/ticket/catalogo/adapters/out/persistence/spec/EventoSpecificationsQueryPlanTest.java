@@ -0,0 +1,163 @@
+package com.ticket.catalogo.adapters.out.persistence.spec;
+
+import com.ticket.catalogo.adapters.out.persistence.jdbc.JdbcEventoView;
+import com.ticket.catalogo.adapters.out.persistence.jpa.adapter.JpaEventoRepositoryAdapter;
+import com.ticket.catalogo.application.port.out.EventoSearchCriteria;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.TestInstance;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.data.jpa.test.autoconfigure.DataJpaTest;
+import org.springframework.boot.jdbc.test.autoconfigure.AutoConfigureTestDatabase;
+import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+import org.testcontainers.mysql.MySQLContainer;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.fail;
+
+/**
+ * Regresión de planes de ejecución: para cada combinación de filtros que puede producir
+ * EventoSpecifications.fromCriteria se captura el SQL que genera searchDto sobre JpaEventoViewEntity,
+ * se ejecuta EXPLAIN sobre un catálogo sembrado y se falla si evento_view se recorre completa
+ * (type = ALL). La búsqueda va sin paginar: LIMIT se enlaza como parámetro y EXPLAIN no lo admite.
+ * Requiere Docker; sin Docker la clase se omite.
+ */
+@DataJpaTest(properties = {
+        "spring.jpa.show-sql=false",
+        // Literales en línea: el SQL capturado se puede pasar a EXPLAIN tal cual
+        "spring.jpa.properties.hibernate.criteria.value_handling_mode=inline",
+        "spring.jpa.properties.hibernate.session_factory.statement_inspector="
+                + "com.ticket.catalogo.adapters.out.persistence.spec.EventoSpecificationsQueryPlanTest$SqlCapturado"
+})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import({JpaEventoRepositoryAdapter.class, JdbcEventoView.class})
+@Testcontainers(disabledWithoutDocker = true)
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class EventoSpecificationsQueryPlanTest {
+
+    private static final int VENUES = 1_000;
+    private static final int EVENTOS = 50_000;
+
+    @Container
+    @ServiceConnection
+    static MySQLContainer mysql = new MySQLContainer("mysql:8.4");
+
+    @Autowired
+    private JpaEventoRepositoryAdapter adapter;
+
+    @Autowired
+    private JdbcEventoView view;
+
+    @Autowired
+    private JdbcTemplate jdbc;
+
+    @BeforeAll
+    void sembrarCatalogo() {
+        String digitos = "SELECT 0 AS d UNION ALL SELECT 1 UNION ALL SELECT 2 UNION ALL SELECT 3 UNION ALL SELECT 4"
+                + " UNION ALL SELECT 5 UNION ALL SELECT 6 UNION ALL SELECT 7 UNION ALL SELECT 8 UNION ALL SELECT 9";
+        String secuencia = "SELECT a.d + 10 * b.d + 100 * c.d + 1000 * d.d + 10000 * e.d AS n"
+                + " FROM (" + digitos + ") a, (" + digitos + ") b, (" + digitos + ") c,"
+                + " (" + digitos + ") d, (" + digitos + ") e";
+
+        jdbc.update("INSERT INTO venue (nombre, capacidad, ubicacion)"
+                + " SELECT CONCAT('Venue ', n), 100 + n, CONCAT('Ciudad ', n % 50)"
+                + " FROM (" + secuencia + ") s WHERE n < " + VENUES);
+
+        // Fechas repartidas en 10 años desde 2016; estados sesgados como en producción
+        // (la mayoría FINALIZADO, pocos CANCELADO/BORRADOR); 40 categorías.
+        jdbc.update("INSERT INTO evento (nombre, fecha_inicio, fecha_fin, estado, categoria, venue_id)"
+                + " SELECT CONCAT('Evento ', n),"
+                + "  TIMESTAMP('2016-01-01 20:00:00') + INTERVAL ((n * 97) % 3650) DAY,"
+                + "  TIMESTAMP('2016-01-01 23:00:00') + INTERVAL ((n * 97) % 3650) DAY,"
+                + "  CASE WHEN n % 100 < 3 THEN 'CANCELADO' WHEN n % 100 < 5 THEN 'BORRADOR'"
+                + "       WHEN n % 100 < 15 THEN 'ACTIVO' ELSE 'FINALIZADO' END,"
+                + "  CONCAT('CATEGORIA_', n % 40),"
+                + "  1 + ((n * 31) % " + VENUES + ")"
+                + " FROM (" + secuencia + ") s WHERE n < " + EVENTOS);
+
+        view.reconstruir();
+
+        jdbc.execute("ANALYZE TABLE venue, evento, evento_view");
+    }
+
+    /**
+     * Todas las combinaciones no vacías de filtros indexables de EventoSearchCriteria.
+     * Los valores son selectivos (~1-3 % de las filas) para que un índice sea la opción correcta;
+     * nombreLike se resuelve con el índice FULLTEXT (type = fulltext).
+     */
+    static Stream<EventoSearchCriteria> formasDePredicado() {
+        return IntStream.range(1, 1 << 6).mapToObj(mask -> {
+            EventoSearchCriteria.Builder b = EventoSearchCriteria.builder();
+            if ((mask & 1) != 0) b.estado("CANCELADO");
+            if ((mask & 2) != 0) b.fechaInicioDesde(LocalDateTime.of(2025, 10, 1, 0, 0));
+            if ((mask & 4) != 0) b.fechaFinHasta(LocalDateTime.of(2016, 2, 1, 0, 0));
+            if ((mask & 8) != 0) b.venueId(7L);
+            if ((mask & 16) != 0) b.nombreLike("Evento 4242");
+            if ((mask & 32) != 0) b.categoria("CATEGORIA_7");
+            return b.build();
+        });
+    }
+
+    @ParameterizedTest
+    @MethodSource("formasDePredicado")
+    void ningunaFormaDePredicadoRecorreLaViewCompleta(EventoSearchCriteria criteria) {
+        SqlCapturado.limpiar();
+        adapter.searchDto(criteria, Pageable.unpaged(Sort.by("fechaInicio", "id")));
+        List<String> consultas = SqlCapturado.consultas();
+        assertFalse(consultas.isEmpty(), "No se capturó SQL para " + criteria);
+
+        for (String sql : consultas) {
+            List<Map<String, Object>> plan = jdbc.queryForList("EXPLAIN " + sql);
+            boolean fullScan = plan.stream().anyMatch(fila -> "ALL".equalsIgnoreCase(String.valueOf(fila.get("type"))));
+            if (fullScan) {
+                fail("Full scan para " + criteria + "\nSQL: " + sql + "\nPlan:\n" + formatear(plan));
+            }
+        }
+    }
+
+    private static String formatear(List<Map<String, Object>> plan) {
+        return plan.stream().map(Map::toString).collect(Collectors.joining("\n"));
+    }
+
+    /**
+     * Captura las SELECT sobre evento_view que emite Hibernate (registrado vía propiedad en @DataJpaTest).
+     */
+    public static class SqlCapturado implements StatementInspector {
+
+        private static final List<String> CAPTURADAS = new CopyOnWriteArrayList<>();
+
+        static void limpiar() {
+            CAPTURADAS.clear();
+        }
+
+        static List<String> consultas() {
+            return new ArrayList<>(CAPTURADAS);
+        }
+
+        @Override
+        public String inspect(String sql) {
+            String normalizado = sql.trim().toLowerCase();
+            if (normalizado.startsWith("select") && normalizado.contains("from evento_view")) {
+                CAPTURADAS.add(sql);
+            }
+            return sql;
+        }
+    }
+}
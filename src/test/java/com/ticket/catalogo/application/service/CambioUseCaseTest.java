@@ -0,0 +1,89 @@
+package com.ticket.catalogo.application.service;
+
+import com.ticket.catalogo.application.DTO.CambiosDto;
+import com.ticket.catalogo.application.port.out.CambioRepositoryPort;
+import com.ticket.catalogo.domain.model.Cambio;
+import com.ticket.catalogo.shared.exceptions.DomainException;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.LongStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class CambioUseCaseTest {
+
+    private static final Duration MARGEN = Duration.ofSeconds(30);
+
+    private final CambioRepositoryPort repo = mock(CambioRepositoryPort.class);
+    private final CambioUseCase useCase = new CambioUseCase(repo, MARGEN, false,
+            Duration.ofSeconds(10), Duration.ofSeconds(5));
+
+    @Test
+    void elTokenDevueltoEsElUltimoIdYSirveParaLaSiguienteLlamada() {
+        when(repo.listarDesde(0L, 4, MARGEN)).thenReturn(cambios(1, 4));
+
+        CambiosDto primera = useCase.listarDesde(null, 3);
+
+        assertEquals(3, primera.getCambios().size());
+        assertTrue(primera.isHayMas());
+        assertEquals(3L, CambioUseCase.decodificar(primera.getSiguiente()));
+
+        when(repo.listarDesde(3L, 4, MARGEN)).thenReturn(cambios(4, 4));
+        CambiosDto segunda = useCase.listarDesde(primera.getSiguiente(), 3);
+
+        assertEquals(List.of(4L), segunda.getCambios().stream().map(c -> c.getId()).collect(Collectors.toList()));
+        assertFalse(segunda.isHayMas());
+    }
+
+    @Test
+    void sinCambiosNuevosDevuelveElMismoToken() {
+        String token = CambioUseCase.codificar(42);
+        when(repo.listarDesde(42L, 101, MARGEN)).thenReturn(List.of());
+
+        assertEquals(token, useCase.listarDesde(token, 100).getSiguiente());
+    }
+
+    @Test
+    void elMargenConfiguradoLlegaALaConsulta() {
+        when(repo.listarDesde(anyLong(), anyInt(), eq(MARGEN))).thenReturn(List.of());
+
+        useCase.listarDesde(null, 5_000);
+
+        // El límite se recorta a LIMITE_MAXIMO (+1 para saber si hay más)
+        verify(repo).listarDesde(0L, CambioUseCase.LIMITE_MAXIMO + 1, MARGEN);
+    }
+
+    @Test
+    void tokensInvalidosSeRechazan() {
+        assertThrows(DomainException.class, () -> useCase.listarDesde("no-es-base64!", 10));
+        assertThrows(DomainException.class, () -> useCase.listarDesde(CambioUseCase.codificar(-1), 10));
+        assertThrows(DomainException.class, () -> useCase.listarDesde(null, 0));
+    }
+
+    @Test
+    void conReplicaElMargenDebeSuperarSuRetrasoTolerado() {
+        assertThrows(IllegalStateException.class, () -> new CambioUseCase(repo, Duration.ofSeconds(15), true,
+                Duration.ofSeconds(10), Duration.ofSeconds(5)));
+        new CambioUseCase(repo, Duration.ofSeconds(16), true, Duration.ofSeconds(10), Duration.ofSeconds(5));
+        new CambioUseCase(repo, Duration.ofSeconds(5), false, Duration.ofSeconds(10), Duration.ofSeconds(5));
+    }
+
+    private static List<Cambio> cambios(long desde, long hasta) {
+        return LongStream.rangeClosed(desde, hasta)
+                .mapToObj(id -> new Cambio(id, Cambio.Entidad.EVENTO, id, Cambio.Operacion.ALTA, 0L, Instant.EPOCH))
+                .collect(Collectors.toList());
+    }
+}
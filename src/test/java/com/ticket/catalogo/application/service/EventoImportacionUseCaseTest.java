@@ -0,0 +1,135 @@
+package com.ticket.catalogo.application.service;
+
+import com.ticket.catalogo.application.DTO.FilaImportacionDto;
+import com.ticket.catalogo.application.DTO.ImportacionResultadoDto;
+import com.ticket.catalogo.application.port.out.AgendaVenuePort;
+import com.ticket.catalogo.application.port.out.CambioRepositoryPort;
+import com.ticket.catalogo.application.port.out.EventoRespositoryPort;
+import com.ticket.catalogo.application.port.out.ResumenEventosPort;
+import com.ticket.catalogo.application.port.out.VenueRepositoryPort;
+import com.ticket.catalogo.domain.model.Evento;
+import com.ticket.catalogo.domain.model.Venue;
+import com.ticket.catalogo.shared.exceptions.DomainException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class EventoImportacionUseCaseTest {
+
+    private static final LocalDateTime INICIO = LocalDateTime.of(2026, 3, 14, 20, 0);
+
+    private final EventoRespositoryPort eventoRepository = mock(EventoRespositoryPort.class);
+    private final VenueRepositoryPort venueRepository = mock(VenueRepositoryPort.class);
+    private final PlatformTransactionManager transactionManager = mock(PlatformTransactionManager.class);
+    private final List<Integer> tamanosDeLote = new ArrayList<>();
+    private final AtomicLong secuencia = new AtomicLong(100);
+
+    private final EventoImportacionUseCase useCase = new EventoImportacionUseCase(eventoRepository, venueRepository,
+            mock(CambioRepositoryPort.class), new ReservaAgenda(mock(AgendaVenuePort.class)), mock(ResumenEventosPort.class),
+            transactionManager, 2);
+
+    @BeforeEach
+    void preparar() {
+        when(transactionManager.getTransaction(any())).thenAnswer(i -> new SimpleTransactionStatus());
+        when(venueRepository.findAllById(anyCollection()))
+                .thenReturn(List.of(new Venue(1L, "Auditorio", 5000, "Bogota", null)));
+        when(eventoRepository.insertAll(anyList())).thenAnswer(i -> {
+            List<Evento> eventos = i.getArgument(0);
+            tamanosDeLote.add(eventos.size());
+            eventos.forEach(e -> e.setId(secuencia.incrementAndGet()));
+            return eventos;
+        });
+    }
+
+    @Test
+    void procesaLaEntradaEnLotesDelTamanoIndicado() {
+        ImportacionResultadoDto resultado = useCase.importar(eventos(5).iterator(), null);
+
+        assertEquals(List.of(2, 2, 1), tamanosDeLote);
+        assertEquals(5, resultado.getImportados());
+        assertEquals(List.of(1, 2, 3, 4, 5), resultado.getFilas().stream().map(FilaImportacionDto::getFila).toList());
+        assertEquals(101L, resultado.getFilas().get(0).getId());
+    }
+
+    @Test
+    void filasInvalidasYLineasIlegiblesNoFrenanAlResto() {
+        List<Evento> entrada = eventos(3);
+        entrada.get(1).setNombre(" ");
+        entrada.add(1, null); // línea ilegible
+        Iterator<Evento> filas = entrada.iterator();
+        Iterator<Evento> conLineaIlegible = new Iterator<>() {
+            @Override
+            public boolean hasNext() {
+                return filas.hasNext();
+            }
+
+            @Override
+            public Evento next() {
+                Evento evento = filas.next();
+                if (evento == null) throw new DomainException("JSON inválido");
+                return evento;
+            }
+        };
+
+        ImportacionResultadoDto resultado = useCase.importar(conLineaIlegible, 3);
+
+        assertEquals(4, resultado.getTotal());
+        assertEquals(2, resultado.getImportados());
+        assertEquals("JSON inválido", resultado.getFilas().get(1).getError());
+        assertEquals("El nombre del evento es obligatorio", resultado.getFilas().get(2).getError());
+        assertNull(resultado.getFilas().get(3).getError());
+    }
+
+    @Test
+    void siFallaElInsertSoloFallanLasFilasQueIbanEnEl() {
+        List<Evento> entrada = eventos(2);
+        entrada.get(0).setFechaFin(INICIO.minusDays(1));
+        when(eventoRepository.insertAll(anyList())).thenThrow(new DataIntegrityViolationException("duplicado"));
+
+        ImportacionResultadoDto resultado = useCase.importar(entrada.iterator(), 2);
+
+        assertEquals(0, resultado.getImportados());
+        assertEquals(2, resultado.getFilas().size());
+        assertEquals("La fecha de inicio debe ser anterior o igual a la fecha fin", resultado.getFilas().get(0).getError());
+        assertEquals("Error al insertar el lote: duplicado", resultado.getFilas().get(1).getError());
+    }
+
+    @Test
+    void unaFilaQueSeSolapaConOtraDelLoteFalla() {
+        List<Evento> entrada = eventos(3);
+        entrada.get(2).setFechaInicio(INICIO.plusHours(2));
+        entrada.get(2).setFechaFin(INICIO.plusHours(4));
+
+        ImportacionResultadoDto resultado = useCase.importar(entrada.iterator(), 3);
+
+        assertEquals(List.of(2), tamanosDeLote);
+        assertEquals("Se solapa en el venue 1 con otra fila de la importación", resultado.getFilas().get(2).getError());
+        assertEquals(102L, resultado.getFilas().get(1).getId());
+    }
+
+    private static List<Evento> eventos(int cantidad) {
+        List<Evento> eventos = new ArrayList<>();
+        for (int i = 0; i < cantidad; i++) {
+            Venue venue = new Venue();
+            venue.setId(1L);
+            eventos.add(new Evento(null, "Evento " + i, INICIO.plusDays(i), INICIO.plusDays(i).plusHours(3), "ACTIVO", venue));
+        }
+        return eventos;
+    }
+}
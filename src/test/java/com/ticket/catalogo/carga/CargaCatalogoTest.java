@@ -0,0 +1,111 @@
+package com.ticket.catalogo.carga;
+
+import com.ticket.catalogo.adapters.out.persistence.jdbc.JdbcEventoView;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.testcontainers.mysql.MySQLContainer;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Prueba de carga de punta a punta: arranca la app (Flyway aplica las migraciones), siembra un
+ * catálogo sintético y conduce tráfico mixto por HTTP, informando throughput y percentiles por endpoint.
+ *
+ * Solo corre si se pide explícitamente:
+ *   mvn test -Dtest=CargaCatalogoTest -Dcarga=true [-Dcarga.venues=2000 -Dcarga.eventos=200000
+ *       -Dcarga.hilos=16 -Dcarga.calentamiento=10s -Dcarga.duracion=60s -Dcarga.semilla=42]
+ * Base de datos: MySQL 8.4 en Testcontainers; con -Dcarga.jdbc-url=... (más -Dcarga.usuario / -Dcarga.clave)
+ * se usa una base local vacía en su lugar.
+ * El reporte se imprime y se guarda en target/carga-reporte.txt.
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT, properties = {
+        "spring.jpa.show-sql=false",
+        "spring.jpa.properties.hibernate.format_sql=false"
+})
+@EnabledIfSystemProperty(named = "carga", matches = "true")
+class CargaCatalogoTest {
+
+    private static MySQLContainer mysql;
+
+    @LocalServerPort
+    private int puerto;
+
+    @Autowired
+    private JdbcTemplate jdbc;
+
+    @Autowired
+    private JdbcEventoView eventoView;
+
+    @DynamicPropertySource
+    static void baseDeDatos(DynamicPropertyRegistry registry) {
+        String local = System.getProperty("carga.jdbc-url");
+        if (local != null) {
+            registry.add("spring.datasource.url", () -> local);
+            registry.add("spring.datasource.username", () -> System.getProperty("carga.usuario", "root"));
+            registry.add("spring.datasource.password", () -> System.getProperty("carga.clave", ""));
+            return;
+        }
+        mysql = new MySQLContainer("mysql:8.4").withUrlParam("rewriteBatchedStatements", "true");
+        mysql.start();
+        registry.add("spring.datasource.url", mysql::getJdbcUrl);
+        registry.add("spring.datasource.username", mysql::getUsername);
+        registry.add("spring.datasource.password", mysql::getPassword);
+    }
+
+    @Test
+    void cargaMixta() throws Exception {
+        int venues = Integer.getInteger("carga.venues", 1_000);
+        int eventos = Integer.getInteger("carga.eventos", 100_000);
+        int hilos = Integer.getInteger("carga.hilos", 8);
+        Duration calentamiento = duracion("carga.calentamiento", "5s");
+        Duration duracion = duracion("carga.duracion", "30s");
+        long semilla = Long.getLong("carga.semilla", 42L);
+
+        long t0 = System.nanoTime();
+        List<Long> venueIds = new GeneradorCatalogo(jdbc, semilla).sembrar(venues, eventos);
+        // La siembra no pasa por los adapters: las búsquedas y GET por id leen de evento_view
+        eventoView.reconstruir();
+        jdbc.execute("ANALYZE TABLE evento_view");
+        long primerEvento = jdbc.queryForObject("SELECT min(id) FROM evento", Long.class);
+        long ultimoEvento = jdbc.queryForObject("SELECT max(id) FROM evento", Long.class);
+        System.out.printf("Catálogo sembrado: %d venues, %d eventos en %.1f s%n",
+                venues, eventos, (System.nanoTime() - t0) / 1e9);
+
+        ConductorCarga conductor = new ConductorCarga("http://localhost:" + puerto, primerEvento, ultimoEvento, venueIds);
+        Map<String, ConductorCarga.Medicion> resultado = conductor.ejecutar(hilos, calentamiento, duracion);
+
+        String reporte = "venues=" + venues + " eventos=" + eventos + " hilos=" + hilos + " duracion=" + duracion + "\n"
+                + ConductorCarga.reporte(resultado);
+        System.out.println(reporte);
+        Files.writeString(Path.of("target", "carga-reporte.txt"), reporte);
+
+        long operaciones = resultado.values().stream().mapToLong(ConductorCarga.Medicion::operaciones).sum();
+        long errores = resultado.values().stream().mapToLong(ConductorCarga.Medicion::errores).sum();
+        assertTrue(operaciones > 0, "No se ejecutó ninguna operación");
+        assertTrue(errores * 100 < operaciones, "Más de 1 % de errores: " + errores + " de " + operaciones);
+    }
+
+    @AfterAll
+    static void detenerBaseDeDatos() {
+        if (mysql != null) {
+            mysql.stop();
+        }
+    }
+
+    private static Duration duracion(String propiedad, String porDefecto) {
+        return Duration.parse("PT" + System.getProperty(propiedad, porDefecto).toUpperCase());
+    }
+}
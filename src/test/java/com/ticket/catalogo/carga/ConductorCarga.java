@@ -0,0 +1,229 @@
+package com.ticket.catalogo.carga;
+
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+
+import java.net.URI;
+import java.net.URLEncoder;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Queue;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Tráfico mixto de lectura/escritura contra /api/eventos y /api/venues.
+ * - N hilos, cada uno elige una operación según su peso y la ejecuta en bucle cerrado.
+ * - Durante el calentamiento no se registra nada; después se mide latencia por endpoint
+ *   (HdrHistogram, 1 µs - 1 min) y se cuentan errores (excepción o status >= 400).
+ * - Las escrituras actualizan eventos sembrados y borran solo eventos creados por la carga.
+ */
+public class ConductorCarga {
+
+    private static final Pattern ID = Pattern.compile("\"id\"\\s*:\\s*(\\d+)");
+    private static final String[] ESTADOS = {"ACTIVO", "FINALIZADO", "BORRADOR", "CANCELADO"};
+
+    private final HttpClient http = HttpClient.newBuilder()
+            .version(HttpClient.Version.HTTP_1_1)
+            .connectTimeout(Duration.ofSeconds(5))
+            .build();
+    private final String base;
+    private final long primerEventoId;
+    private final long ultimoEventoId;
+    private final List<Long> venueIds;
+    private final List<Operacion> operaciones = new ArrayList<>();
+    private final int pesoTotal;
+    private final Queue<Long> creados = new ConcurrentLinkedQueue<>();
+    private final Map<String, Medicion> mediciones = new ConcurrentHashMap<>();
+    private volatile boolean midiendo;
+
+    /** Los eventos sembrados deben tener ids contiguos entre primerEventoId y ultimoEventoId. */
+    public ConductorCarga(String base, long primerEventoId, long ultimoEventoId, List<Long> venueIds) {
+        this.base = base;
+        this.primerEventoId = primerEventoId;
+        this.ultimoEventoId = ultimoEventoId;
+        this.venueIds = venueIds;
+
+        agregar(25, "GET /api/eventos/search?estado", r -> get("/api/eventos/search?estado=" + ESTADOS[r.nextInt(2)]
+                + "&page=" + r.nextInt(5) + "&size=20"));
+        agregar(12, "GET /api/eventos/search?venueId", r -> get("/api/eventos/search?venueId=" + venue(r)));
+        agregar(8, "GET /api/eventos/search?nombre", r -> get("/api/eventos/search?nombre="
+                + texto(GeneradorCatalogo.TEMAS[r.nextInt(GeneradorCatalogo.TEMAS.length)])));
+        agregar(8, "GET /api/eventos/search/scroll", r -> get("/api/eventos/search/scroll?inicio="
+                + LocalDate.now().plusDays(r.nextInt(300)) + "T00:00:00&size=20"));
+        agregar(15, "GET /api/eventos/{id}", r -> get("/api/eventos/" + evento(r)));
+        agregar(4, "GET /api/eventos?ids", r -> get("/api/eventos?ids=" + evento(r) + ","
+                + evento(r) + "," + evento(r)));
+        agregar(6, "GET /api/venues?nombre", r -> get("/api/venues?nombre="
+                + texto(GeneradorCatalogo.PREFIJOS_VENUE[r.nextInt(GeneradorCatalogo.PREFIJOS_VENUE.length)])));
+        agregar(6, "GET /api/venues/{id}", r -> get("/api/venues/" + venue(r)));
+        agregar(8, "POST /api/eventos", this::crearEvento);
+        agregar(5, "PUT /api/eventos/{id}", r -> send(HttpRequest.newBuilder(uri("/api/eventos/" + evento(r)))
+                .header("Content-Type", "application/json")
+                .PUT(HttpRequest.BodyPublishers.ofString("{\"estado\":\"" + ESTADOS[r.nextInt(ESTADOS.length)] + "\"}"))));
+        agregar(3, "DELETE /api/eventos/{id}", this::borrarCreado);
+        this.pesoTotal = operaciones.stream().mapToInt(Operacion::peso).sum();
+    }
+
+    /** Ejecuta la carga y devuelve las mediciones por endpoint (ordenadas por nombre). */
+    public Map<String, Medicion> ejecutar(int hilos, Duration calentamiento, Duration duracion) throws InterruptedException {
+        long fin = System.nanoTime() + calentamiento.toNanos() + duracion.toNanos();
+        ExecutorService pool = Executors.newFixedThreadPool(hilos);
+        for (int i = 0; i < hilos; i++) {
+            pool.submit(() -> bucle(fin));
+        }
+        Thread.sleep(calentamiento.toMillis());
+        midiendo = true;
+        long inicioMedicion = System.nanoTime();
+        pool.shutdown();
+        pool.awaitTermination(duracion.toMillis() + 60_000, TimeUnit.MILLISECONDS);
+        double segundos = (System.nanoTime() - inicioMedicion) / 1e9;
+        mediciones.values().forEach(m -> m.segundos = segundos);
+        return new TreeMap<>(mediciones);
+    }
+
+    private void bucle(long fin) {
+        ThreadLocalRandom r = ThreadLocalRandom.current();
+        while (System.nanoTime() < fin) {
+            Operacion op = elegir(r);
+            long t0 = System.nanoTime();
+            boolean ok;
+            try {
+                ok = op.accion().ejecutar(r) < 400;
+            } catch (Exception e) {
+                ok = false;
+            }
+            if (midiendo) {
+                mediciones.computeIfAbsent(op.nombre(), k -> new Medicion()).registrar(System.nanoTime() - t0, ok);
+            }
+        }
+    }
+
+    private int crearEvento(ThreadLocalRandom r) throws Exception {
+        LocalDate dia = LocalDate.now().plusDays(1 + r.nextInt(365));
+        String body = "{\"nombre\":\"Carga " + GeneradorCatalogo.TEMAS[r.nextInt(GeneradorCatalogo.TEMAS.length)] + "\","
+                + "\"fechaInicio\":\"" + dia + "T20:00:00\",\"fechaFin\":\"" + dia + "T22:00:00\","
+                + "\"estado\":\"BORRADOR\",\"venueId\":" + venue(r) + "}";
+        HttpResponse<String> resp = http.send(HttpRequest.newBuilder(uri("/api/eventos"))
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(body)).build(), HttpResponse.BodyHandlers.ofString());
+        Matcher m = ID.matcher(resp.body());
+        if (resp.statusCode() < 400 && m.find()) {
+            creados.add(Long.parseLong(m.group(1)));
+        }
+        // 409: el venue ya tiene un evento esa noche; es la respuesta correcta, no un error
+        return resp.statusCode() == 409 ? 200 : resp.statusCode();
+    }
+
+    private int borrarCreado(ThreadLocalRandom r) throws Exception {
+        Long id = creados.poll();
+        if (id == null) {
+            return crearEvento(r);
+        }
+        return send(HttpRequest.newBuilder(uri("/api/eventos/" + id)).DELETE());
+    }
+
+    private int get(String path) throws Exception {
+        return send(HttpRequest.newBuilder(uri(path)).GET());
+    }
+
+    private int send(HttpRequest.Builder request) throws Exception {
+        return http.send(request.timeout(Duration.ofSeconds(30)).build(), HttpResponse.BodyHandlers.discarding()).statusCode();
+    }
+
+    private static String texto(String valor) {
+        return URLEncoder.encode(valor, StandardCharsets.UTF_8);
+    }
+
+    private URI uri(String path) {
+        return URI.create(base + path);
+    }
+
+    private long evento(ThreadLocalRandom r) {
+        return r.nextLong(primerEventoId, ultimoEventoId + 1);
+    }
+
+    private long venue(ThreadLocalRandom r) {
+        return venueIds.get(r.nextInt(venueIds.size()));
+    }
+
+    private Operacion elegir(ThreadLocalRandom r) {
+        int x = r.nextInt(pesoTotal);
+        for (Operacion op : operaciones) {
+            x -= op.peso();
+            if (x < 0) return op;
+        }
+        return operaciones.get(operaciones.size() - 1);
+    }
+
+    private void agregar(int peso, String nombre, Accion accion) {
+        operaciones.add(new Operacion(peso, nombre, accion));
+    }
+
+    /** Tabla de resultados: operaciones, throughput, errores y percentiles de latencia en ms. */
+    public static String reporte(Map<String, Medicion> mediciones) {
+        StringBuilder sb = new StringBuilder(String.format(Locale.ROOT, "%-34s %9s %9s %8s %9s %9s %9s %9s%n",
+                "endpoint", "ops", "ops/s", "errores", "p50 ms", "p90 ms", "p99 ms", "max ms"));
+        long total = 0;
+        double segundos = 0;
+        for (Map.Entry<String, Medicion> e : mediciones.entrySet()) {
+            Medicion m = e.getValue();
+            Histogram h = m.latencias;
+            total += h.getTotalCount();
+            segundos = m.segundos;
+            sb.append(String.format(Locale.ROOT, "%-34s %9d %9.1f %8d %9.2f %9.2f %9.2f %9.2f%n", e.getKey(),
+                    h.getTotalCount(), h.getTotalCount() / m.segundos, m.errores.sum(),
+                    ms(h.getValueAtPercentile(50)), ms(h.getValueAtPercentile(90)),
+                    ms(h.getValueAtPercentile(99)), ms(h.getMaxValue())));
+        }
+        sb.append(String.format(Locale.ROOT, "%-34s %9d %9.1f%n", "TOTAL", total, segundos == 0 ? 0 : total / segundos));
+        return sb.toString();
+    }
+
+    private static double ms(long micros) {
+        return micros / 1000.0;
+    }
+
+    public static final class Medicion {
+        private final Histogram latencias = new ConcurrentHistogram(TimeUnit.MINUTES.toMicros(1), 3);
+        private final LongAdder errores = new LongAdder();
+        private volatile double segundos;
+
+        void registrar(long nanos, boolean ok) {
+            latencias.recordValue(Math.min(TimeUnit.NANOSECONDS.toMicros(nanos), latencias.getHighestTrackableValue()));
+            if (!ok) errores.increment();
+        }
+
+        public long operaciones() {
+            return latencias.getTotalCount();
+        }
+
+        public long errores() {
+            return errores.sum();
+        }
+    }
+
+    @FunctionalInterface
+    private interface Accion {
+        int ejecutar(ThreadLocalRandom r) throws Exception;
+    }
+
+    private record Operacion(int peso, String nombre, Accion accion) {
+    }
+}
@@ -0,0 +1,126 @@
+package com.ticket.catalogo.carga;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Catálogo sintético y reproducible (misma semilla, mismos datos) para pruebas de carga.
+ * - Venues con capacidades entre 100 y 50.000 repartidos en 40 ciudades.
+ * - Popularidad sesgada: pocos venues concentran la mayoría de los eventos.
+ * - Fechas entre dos años atrás y un año adelante; el estado sigue a la fecha
+ *   (pasados: FINALIZADO o CANCELADO; futuros: ACTIVO, BORRADOR o CANCELADO).
+ * Inserta con lotes JDBC, sin pasar por la API ni por JPA.
+ */
+public class GeneradorCatalogo {
+
+    static final String[] TIPOS = {"Concierto", "Festival", "Obra", "Partido", "Conferencia", "Stand-up", "Ópera", "Feria"};
+    static final String[] TEMAS = {"Rock", "Jazz", "Salsa", "Clásica", "Tecnología", "Comedia", "Fútbol", "Vallenato",
+            "Electrónica", "Teatro", "Gastronomía", "Literatura", "Reggaetón", "Ciencia", "Danza", "Blues"};
+    static final String[] CIUDADES_BASE = {"Bogotá", "Medellín", "Cali", "Barranquilla", "Cartagena", "Bucaramanga",
+            "Pereira", "Manizales", "Santa Marta", "Cúcuta"};
+    static final String[] PREFIJOS_VENUE = {"Teatro", "Arena", "Estadio", "Auditorio", "Coliseo", "Centro de Eventos"};
+
+    private static final int LOTE = 5_000;
+
+    private final JdbcTemplate jdbc;
+    private final Random random;
+
+    public GeneradorCatalogo(JdbcTemplate jdbc, long semilla) {
+        this.jdbc = jdbc;
+        this.random = new Random(semilla);
+    }
+
+    /** Inserta los venues y eventos; devuelve los ids de venue generados. */
+    public List<Long> sembrar(int venues, int eventos) {
+        List<Long> venueIds = sembrarVenues(venues);
+        sembrarEventos(eventos, venueIds);
+        jdbc.execute("ANALYZE TABLE venue, evento");
+        return venueIds;
+    }
+
+    private List<Long> sembrarVenues(int cantidad) {
+        long antes = maxId("venue");
+        List<Object[]> filas = new ArrayList<>(Math.min(cantidad, LOTE));
+        for (int i = 0; i < cantidad; i++) {
+            String ciudad = ciudad();
+            filas.add(new Object[]{
+                    PREFIJOS_VENUE[random.nextInt(PREFIJOS_VENUE.length)] + " " + TEMAS[random.nextInt(TEMAS.length)] + " " + i,
+                    100 + (int) (49_900 * Math.pow(random.nextDouble(), 3)),
+                    ciudad});
+            if (filas.size() == LOTE) {
+                insertarVenues(filas);
+            }
+        }
+        insertarVenues(filas);
+        return jdbc.queryForList("SELECT id FROM venue WHERE id > ? ORDER BY id", Long.class, antes);
+    }
+
+    private void sembrarEventos(int cantidad, List<Long> venueIds) {
+        LocalDateTime desde = LocalDate.now().minusYears(2).atStartOfDay();
+        int dias = 3 * 365;
+        LocalDateTime hoy = LocalDateTime.now();
+
+        List<Object[]> filas = new ArrayList<>(Math.min(cantidad, LOTE));
+        for (int i = 0; i < cantidad; i++) {
+            LocalDateTime inicio = desde.plusDays(random.nextInt(dias)).plusHours(10 + random.nextInt(12));
+            LocalDateTime fin = inicio.plusHours(1 + random.nextInt(5));
+            filas.add(new Object[]{
+                    nombreEvento(i),
+                    Timestamp.valueOf(inicio),
+                    Timestamp.valueOf(fin),
+                    estado(inicio.isBefore(hoy)),
+                    venueIds.get(venuePopular(venueIds.size()))});
+            if (filas.size() == LOTE) {
+                insertarEventos(filas);
+            }
+        }
+        insertarEventos(filas);
+    }
+
+    String nombreEvento(int i) {
+        return TIPOS[random.nextInt(TIPOS.length)] + " " + TEMAS[random.nextInt(TEMAS.length)] + " " + i;
+    }
+
+    // ~40 ciudades: las capitales base más variantes numeradas
+    private String ciudad() {
+        int n = (int) (40 * Math.pow(random.nextDouble(), 2));
+        String base = CIUDADES_BASE[n % CIUDADES_BASE.length];
+        return n < CIUDADES_BASE.length ? base : base + " " + (n / CIUDADES_BASE.length);
+    }
+
+    // Sesgo cuadrático: el primer 10 % de venues recibe ~32 % de los eventos
+    private int venuePopular(int venues) {
+        return (int) (venues * Math.pow(random.nextDouble(), 2));
+    }
+
+    private String estado(boolean pasado) {
+        int p = random.nextInt(100);
+        if (pasado) {
+            return p < 94 ? "FINALIZADO" : "CANCELADO";
+        }
+        return p < 80 ? "ACTIVO" : p < 95 ? "BORRADOR" : "CANCELADO";
+    }
+
+    private void insertarVenues(List<Object[]> filas) {
+        if (filas.isEmpty()) return;
+        jdbc.batchUpdate("INSERT INTO venue (nombre, capacidad, ubicacion) VALUES (?, ?, ?)", filas);
+        filas.clear();
+    }
+
+    private void insertarEventos(List<Object[]> filas) {
+        if (filas.isEmpty()) return;
+        jdbc.batchUpdate("INSERT INTO evento (nombre, fecha_inicio, fecha_fin, estado, venue_id) VALUES (?, ?, ?, ?, ?)", filas);
+        filas.clear();
+    }
+
+    private long maxId(String tabla) {
+        Long max = jdbc.queryForObject("SELECT max(id) FROM " + tabla, Long.class);
+        return max == null ? 0 : max;
+    }
+}
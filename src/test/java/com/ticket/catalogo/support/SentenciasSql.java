@@ -0,0 +1,44 @@
+package com.ticket.catalogo.support;
+
+import com.ticket.catalogo.adapters.in.web.PresupuestoSqlFilter;
+import com.ticket.catalogo.adapters.out.persistence.sql.ContadorSentencias;
+import org.springframework.test.web.servlet.MvcResult;
+
+import java.util.List;
+import java.util.concurrent.Callable;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+
+/**
+ * Aserciones sobre la cantidad de sentencias SQL que llegan a la base (Hibernate y JdbcTemplate).
+ * - Para endpoints: MockMvc construido con PresupuestoSqlFilter deja el total en la petición.
+ * - Para código directo (adapters, casos de uso): ejecutar(...) mide en el hilo actual.
+ */
+public final class SentenciasSql {
+
+    private SentenciasSql() {
+        // utilitario
+    }
+
+    public static int de(MvcResult resultado) {
+        Object total = resultado.getRequest().getAttribute(PresupuestoSqlFilter.ATRIBUTO_SENTENCIAS);
+        assertNotNull(total, "La petición no pasó por PresupuestoSqlFilter");
+        return (Integer) total;
+    }
+
+    public static void assertSentencias(int esperadas, MvcResult resultado) {
+        String peticion = resultado.getRequest().getMethod() + " " + resultado.getRequest().getRequestURI();
+        assertEquals(esperadas, de(resultado), () -> "Sentencias SQL de " + peticion);
+    }
+
+    /** Ejecuta la acción y verifica la cantidad exacta de sentencias; devuelve su resultado. */
+    public static <T> T assertSentencias(int esperadas, Callable<T> accion) throws Exception {
+        try (ContadorSentencias.Medicion medicion = ContadorSentencias.iniciar()) {
+            T resultado = accion.call();
+            List<String> sentencias = medicion.sentencias();
+            assertEquals(esperadas, medicion.total(), () -> "Sentencias SQL:\n" + String.join("\n", sentencias));
+            return resultado;
+        }
+    }
+}